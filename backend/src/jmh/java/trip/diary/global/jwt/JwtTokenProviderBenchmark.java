@@ -0,0 +1,70 @@
+package trip.diary.global.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.User;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 생성/검증 처리량 비교.
+ * legacy* : 호출마다 서명 키와 파서를 새로 만들던 기존 방식
+ * shared* : 기동 시 한 번 만든 키와 JwtParser를 재사용하는 JwtTokenProvider
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET_KEY = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+
+    private JwtTokenProvider provider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(userId -> User.withUsername(userId).password("").roles("USER").build());
+        token = provider.createToken("benchmark01");
+    }
+
+    @Benchmark
+    public String legacyCreate() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("benchmark01")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + 3600000))
+                .signWith(legacyKey(), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    @Benchmark
+    public String sharedCreate() {
+        return provider.createToken("benchmark01");
+    }
+
+    @Benchmark
+    public String legacyVerify() {
+        // 기존 필터 흐름: validateToken + getUserId 로 두 번 파싱
+        Jwts.parserBuilder().setSigningKey(legacyKey()).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(legacyKey()).build()
+                .parseClaimsJws(token)
+                .getBody()
+                .getSubject();
+    }
+
+    @Benchmark
+    public String sharedVerify() {
+        return provider.resolveClaims(token).getSubject();
+    }
+
+    private static Key legacyKey() {
+        byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(SECRET_KEY.getBytes()));
+        return Keys.hmacShaKeyFor(keyBytes);
+    }
+}
@@ -0,0 +1,88 @@
+package trip.diary.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여행 생성 시 TripDay 생성 비교 (H2 메모리 DB, MySQL 모드)
+ * perRowInsert: 기존 saveAll(IDENTITY)처럼 날짜마다 INSERT 한 번씩
+ * batchInsert : TripDayJdbcRepository.insertDays - JDBC 배치 INSERT
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TripDayInsertBenchmark {
+
+    private static final LocalDate START_DATE = LocalDate.of(2026, 1, 1);
+
+    @Param({"7", "90", "365"})
+    private int days;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TripDayJdbcRepository repository;
+
+    private long tripId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:trip_days_insert;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new TripDayJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("drop table if exists trip_days");
+        jdbcTemplate.execute("""
+                create table trip_days (
+                    day_id bigint auto_increment primary key,
+                    trip_id bigint not null,
+                    day_date date not null,
+                    day_index int not null,
+                    theme_title varchar(100),
+                    day_note longtext,
+                    budget_planned int,
+                    budget_spent int,
+                    items_version bigint not null default 0,
+                    created_at timestamp not null,
+                    updated_at timestamp not null,
+                    constraint uk_trip_days_trip_date unique (trip_id, day_date),
+                    constraint uk_trip_days_trip_index unique (trip_id, day_index)
+                )
+                """);
+    }
+
+    // 측정 반복마다 테이블을 비워서 인덱스 크기가 결과에 영향을 주지 않도록 함
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("truncate table trip_days");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Benchmark
+    public int perRowInsert() {
+        long trip = ++tripId;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int i = 0; i < days; i++) {
+            jdbcTemplate.update("""
+                    insert into trip_days (trip_id, day_date, day_index, created_at, updated_at)
+                    values (?, ?, ?, ?, ?)
+                    """, trip, Date.valueOf(START_DATE.plusDays(i)), i + 1, now, now);
+        }
+        return days;
+    }
+
+    @Benchmark
+    public int batchInsert() {
+        return repository.insertDays(++tripId, START_DATE, START_DATE.plusDays(days - 1));
+    }
+}
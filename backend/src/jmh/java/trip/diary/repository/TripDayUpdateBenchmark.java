@@ -0,0 +1,119 @@
+package trip.diary.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import trip.diary.dto.TripDayContent;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TripDay 일괄 수정 비교 (H2 메모리 DB, MySQL 모드)
+ * perRowUpdate         : 기존 변경 감지 flush처럼 날짜마다 모든 컬럼 UPDATE 한 번씩 (배치 없음)
+ * batchedChangedColumns: TripDayJdbcRepository - 바뀐 컬럼(theme_title)만 배치 UPDATE
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TripDayUpdateBenchmark {
+
+    private static final String PER_ROW_SQL = """
+            update trip_days
+            set theme_title = ?, day_note = ?, budget_planned = ?, budget_spent = ?, updated_at = ?
+            where day_id = ?
+            """;
+
+    @Param({"30", "365"})
+    private int days;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TripDayJdbcRepository repository;
+
+    private Map<Long, TripDayContent> current;
+    private int round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:trip_days_update;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new TripDayJdbcRepository(jdbcTemplate);
+
+        jdbcTemplate.execute("drop table if exists trip_days");
+        jdbcTemplate.execute("""
+                create table trip_days (
+                    day_id bigint primary key,
+                    trip_id bigint not null,
+                    day_date date not null,
+                    day_index int not null,
+                    theme_title varchar(100),
+                    day_note longtext,
+                    budget_planned int,
+                    budget_spent int,
+                    items_version bigint not null default 0,
+                    created_at timestamp not null,
+                    updated_at timestamp not null
+                )
+                """);
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        LocalDate start = LocalDate.of(2026, 1, 1);
+        current = new HashMap<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (long id = 1; id <= days; id++) {
+            TripDayContent day = new TripDayContent(id, "day " + id, "note " + id, 50000, 0);
+            current.put(id, day);
+            rows.add(new Object[]{id, 1L, start.plusDays(id - 1), (int) id,
+                    day.themeTitle(), day.dayNote(), day.budgetPlanned(), day.budgetSpent(), now, now});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into trip_days (day_id, trip_id, day_date, day_index, theme_title, day_note,
+                                       budget_planned, budget_spent, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """, rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.destroy();
+    }
+
+    // 매 호출마다 제목만 바뀐 요청 (전체 일정 편집 화면에서 흔한 경우)
+    private List<TripDayContent> retitled() {
+        round++;
+        List<TripDayContent> requested = new ArrayList<>(days);
+        for (TripDayContent day : current.values()) {
+            requested.add(new TripDayContent(day.dayId(), "day " + day.dayId() + " v" + round,
+                    day.dayNote(), day.budgetPlanned(), day.budgetSpent()));
+        }
+        return requested;
+    }
+
+    @Benchmark
+    public int perRowUpdate() {
+        List<TripDayContent> requested = retitled();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = 0;
+        for (TripDayContent day : requested) {
+            updated += jdbcTemplate.update(PER_ROW_SQL, day.themeTitle(), day.dayNote(),
+                    day.budgetPlanned(), day.budgetSpent(), now, day.dayId());
+            current.put(day.dayId(), day);
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public int batchedChangedColumns() {
+        List<TripDayContent> requested = retitled();
+        int updated = repository.updateChangedColumns(current, requested);
+        requested.forEach(day -> current.put(day.dayId(), day));
+        return updated;
+    }
+}
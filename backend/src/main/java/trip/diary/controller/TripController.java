@@ -63,6 +63,13 @@ public class TripController {
                                                     {
                                                       "message": "여행 제목은 50자 이내여야 합니다."
                                                     }
+                                                    """),
+                                    @ExampleObject(name = "4. 여행 기간 초과",
+                                            summary = "시작일~종료일이 최대 기간(기본 366일) 초과",
+                                            value = """
+                                                    {
+                                                      "message": "여행 기간은 최대 366일까지 설정할 수 있습니다."
+                                                    }
                                                     """)
                             })),
 
@@ -84,7 +91,7 @@ public class TripController {
             @Parameter(description = "여행 정보 JSON (String)", required = true)
             @RequestPart("data") String data,
 
-            @Parameter(description = "대표 이미지 파일", required = false)
+            @Parameter(description = "대표 이미지 파일 (POST /uploads 로 미리 올린 경우 data.imageToken 사용)", required = false)
             @RequestPart(value = "image", required = false) MultipartFile image,
 
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) throws JsonProcessingException {
@@ -105,28 +112,43 @@ public class TripController {
     }
 
     // 여행 목록 조회
-    @Operation(summary = "여행 목록 조회", description = "로그인한 사용자의 모든 여행을 조회합니다.")
+    @Operation(summary = "여행 목록 조회", description = "로그인한 사용자의 여행을 시작일 최신순으로 조회합니다. " +
+            "응답의 nextCursor 값을 cursor 파라미터로 보내면 다음 페이지를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = TripDto.class))),
+                    content = @Content(schema = @Schema(implementation = TripPageResponse.class))),
 
-            // ▼▼▼ 404 에러: 사용자 정보 충돌 (요청하신 부분) ▼▼▼
-            @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음",
+            // ▼▼▼ 400 에러: 잘못된 페이지 파라미터 ▼▼▼
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 파라미터",
                     content = @Content(mediaType = "application/json",
-                            examples = @ExampleObject(name = "존재하지 않는 사용자",
-                                    summary = "토큰은 유효하나 DB에 유저 정보 없음",
-                                    value = """
-                                            {
-                                              "message": "존재하지 않는 사용자입니다."
-                                            }
-                                            """)
-                    ))
+                            examples = {
+                                    @ExampleObject(name = "1. 잘못된 커서",
+                                            summary = "nextCursor 형식이 아님",
+                                            value = """
+                                                    {
+                                                      "message": "잘못된 커서 값입니다."
+                                                    }
+                                                    """),
+                                    @ExampleObject(name = "2. 페이지 크기 초과",
+                                            summary = "size 범위(1~100) 벗어남",
+                                            value = """
+                                                    {
+                                                      "message": "size는 1 이상 100 이하여야 합니다."
+                                                    }
+                                                    """)
+                            }))
     })
     @GetMapping
-    public ResponseEntity<CommonResponse<List<TripDto>>> getTrips(
+    public ResponseEntity<CommonResponse<TripPageResponse>> getTrips(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)", example = "2024-07-01_15")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            @Parameter(description = "여행 상태 필터 (1: 다녀온 여행, 2: 새로운 여행)", example = "2")
+            @RequestParam(required = false) Integer status,
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
 
-        List<TripDto> trips = tripService.getTrips(userDetails.getUsername());
+        TripPageResponse trips = tripService.getTrips(userDetails.getUsername(), cursor, size, status);
         return ResponseEntity.ok(CommonResponse.success(trips));
     }
 
@@ -206,7 +228,7 @@ public class TripController {
             @Parameter(description = "수정할 정보 JSON (String)", required = true)
             @RequestPart("data") String data,
 
-            @Parameter(description = "변경할 이미지 파일 (없으면 기존 이미지 유지)", required = false)
+            @Parameter(description = "변경할 이미지 파일 (없으면 기존 이미지 유지, 미리 올린 경우 data.imageToken 사용)", required = false)
             @RequestPart(value = "image", required = false) MultipartFile image,
 
             @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) throws JsonProcessingException {
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -22,7 +21,8 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import trip.diary.dto.PlaceRequest;
 import trip.diary.dto.PlaceDetailResponse;
-import trip.diary.dto.PlaceListResponse;
+import trip.diary.dto.PlacePageResponse;
+import trip.diary.dto.PlacePhotoPatchRequest;
 import trip.diary.dto.PlaceResponse;
 import trip.diary.global.exception.ErrorResponse;
 import trip.diary.service.TripPlaceService;
@@ -43,13 +43,19 @@ public class TripPlaceController {
 
     @Operation(
             summary = "장소 목록 조회",
-            description = "특정 여행의 모든 장소 목록을 조회합니다."
+            description = "특정 여행의 장소 목록을 등록순으로 조회합니다. category로 필터링할 수 있으며, " +
+                    "응답의 nextCursor 값을 cursor 파라미터로 보내면 다음 페이지를 조회합니다."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "조회 성공",
-                    content = @Content(array = @ArraySchema(schema = @Schema(implementation = PlaceListResponse.class)))
+                    content = @Content(schema = @Schema(implementation = PlacePageResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "페이지 크기 범위(1~100) 벗어남",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -58,9 +64,16 @@ public class TripPlaceController {
             )
     })
     @GetMapping
-    public ResponseEntity<List<PlaceListResponse>> getPlaces(
-            @Parameter(description = "여행 ID", required = true) @PathVariable Long tripId,@AuthenticationPrincipal UserDetails userDetails ) {
-        List<PlaceListResponse> places = tripPlaceService.getPlaces(tripId, userDetails.getUsername());
+    public ResponseEntity<PlacePageResponse> getPlaces(
+            @Parameter(description = "여행 ID", required = true) @PathVariable Long tripId,
+            @Parameter(description = "카테고리 필터 (생략하면 전체)", example = "맛집")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)", example = "15")
+            @RequestParam(required = false) Long cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)", example = "20")
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        PlacePageResponse places = tripPlaceService.getPlaces(tripId, category, cursor, size, userDetails.getUsername());
         return ResponseEntity.ok(places);
     }
 
@@ -96,7 +109,8 @@ public class TripPlaceController {
 
     @Operation(
             summary = "장소 등록",
-            description = "multipart/form-data로 data(JSON) + images(file[])를 받습니다.",
+            description = "multipart/form-data로 data(JSON) + images(file[])를 받습니다. " +
+                    "POST /uploads 로 미리 올린 경우 images 대신 data.imageTokens 를 보내면 됩니다.",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     required = true,
                     content = @Content(
@@ -135,7 +149,8 @@ public class TripPlaceController {
 
     @Operation(
             summary = "장소 수정",
-            description = "multipart/form-data로 data(JSON) + images(file[])를 받습니다.",
+            description = "multipart/form-data로 data(JSON) + images(file[])를 받습니다. " +
+                    "POST /uploads 로 미리 올린 경우 images 대신 data.imageTokens 를 보내면 됩니다.",
             requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     required = true,
                     content = @Content(
@@ -181,6 +196,73 @@ public class TripPlaceController {
 
     /*-----------------------------------------------------------------------------------------------*/
 
+    @Operation(
+            summary = "장소 사진 부분 수정",
+            description = "multipart/form-data로 data(JSON) + images(file[])를 받습니다. " +
+                    "기존 사진은 그대로 두고 images(또는 data.imageTokens)는 추가, data.removePhotoIds는 삭제, " +
+                    "data.coverPhotoId/coverIndex로 대표 사진만 바꿉니다. 이미 있는 사진과 같은 파일은 다시 올리지 않습니다.",
+            requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    required = true,
+                    content = @Content(
+                            mediaType = MediaType.MULTIPART_FORM_DATA_VALUE,
+                            schema = @Schema(implementation = PlacePhotoPatchMultipart.class)
+                    )
+            )
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "수정 성공 (수정된 장소 상세)",
+                    content = @Content(schema = @Schema(implementation = PlaceDetailResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "대표 사진 지정이 잘못됨",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "여행, 장소 또는 삭제할 사진을 찾을 수 없음",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))
+            )
+    })
+    @PatchMapping(value = "/{placeId}/photos", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<PlaceDetailResponse> updatePlacePhotos(
+            @PathVariable Long tripId,
+            @PathVariable Long placeId,
+            @RequestPart("data") String data,
+            @RequestPart(value = "images", required = false) List<MultipartFile> images,
+            @AuthenticationPrincipal UserDetails userDetails
+    ) throws JsonProcessingException {
+
+        PlacePhotoPatchRequest request = OBJECT_MAPPER.readValue(data, PlacePhotoPatchRequest.class);
+
+        // null/empty 필터링 (스웨거에서 빈 파일 들어오는 경우 방어)
+        List<MultipartFile> imageList = null;
+        if (images != null) {
+            imageList = images.stream()
+                    .filter(f -> f != null && !f.isEmpty())
+                    .collect(Collectors.toList());
+        }
+
+        PlaceDetailResponse place = tripPlaceService.updatePhotos(tripId, placeId, request, imageList, userDetails.getUsername());
+        return ResponseEntity.ok(place);
+    }
+
+    /** Swagger용 multipart wrapper */
+    @Getter
+    @Setter
+    public static class PlacePhotoPatchMultipart {
+        @Schema(description = "사진 수정 정보(JSON)", requiredMode = Schema.RequiredMode.REQUIRED)
+        private PlacePhotoPatchRequest data;
+
+        @Schema(description = "추가할 이미지 파일 목록", type = "string", format = "binary",
+                requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        private List<MultipartFile> images;
+    }
+
+    /*-----------------------------------------------------------------------------------------------*/
+
     @Operation(
             summary = "장소 삭제",
             description = "특정 장소를 삭제합니다."
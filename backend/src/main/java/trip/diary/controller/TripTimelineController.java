@@ -6,6 +6,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -14,9 +17,12 @@ import trip.diary.dto.TimelineDto;
 import trip.diary.dto.TimelineItemUpdateRequest;
 import trip.diary.dto.TripDayBulkUpdateRequest;
 import trip.diary.global.exception.ErrorResponse;
+import trip.diary.service.TimelineCache;
 import trip.diary.service.TimelineService;
 import io.swagger.v3.oas.annotations.Operation;
 
+import java.util.List;
+
 
 @RestController
 @RequiredArgsConstructor
@@ -25,11 +31,13 @@ import io.swagger.v3.oas.annotations.Operation;
 public class TripTimelineController {
 
     private final TimelineService timelineService;
+    private final TimelineCache timelineCache;
 
 
     @Operation(
             summary = "여행 타임라인 조회",
-            description = "여행(tripId)에 속한 모든 날짜(day)와 일정(item)을 조회합니다.",
+            description = "여행(tripId)에 속한 모든 날짜(day)와 일정(item)을 조회합니다. " +
+                    "응답의 ETag를 If-None-Match 헤더로 보내면, 변경이 없을 때 본문 없이 304를 반환합니다.",
             responses = {
                     @ApiResponse(
                             responseCode = "200",
@@ -39,6 +47,10 @@ public class TripTimelineController {
                                     schema = @Schema(implementation = TimelineDto.TimelineListResponse.class)
                             )
                     ),
+                    @ApiResponse(
+                            responseCode = "304",
+                            description = "변경 없음 (If-None-Match와 ETag 일치)"
+                    ),
                     @ApiResponse(
                             responseCode = "404",
                             description = "존재하지 않는 여행"
@@ -47,10 +59,21 @@ public class TripTimelineController {
     )
     //GET /trips/{tripId}/timeline
     @GetMapping("/{tripId}/timeline")
-    public ResponseEntity<TimelineDto.TimelineListResponse> getTimeline(@PathVariable Long tripId,
-                                                                        @AuthenticationPrincipal UserDetails userDetails){
-        TimelineDto.TimelineListResponse response= timelineService.getTimeline(tripId, userDetails.getUsername());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getTimeline(@PathVariable Long tripId,
+                                              @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @AuthenticationPrincipal UserDetails userDetails){
+        String userId = userDetails.getUsername();
+        // 변경이 없으면 캐시된 직렬화 결과를 그대로 사용 (DB 조회 없음)
+        TimelineCache.Snapshot snapshot = timelineCache.getOrLoad(tripId, userId,
+                () -> timelineService.getTimeline(tripId, userId));
+
+        if (snapshot.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag()).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(snapshot.body());
     }
 
     /*-----------------------------------------------------------------------------------*/
@@ -75,6 +98,10 @@ public class TripTimelineController {
                     @ApiResponse(
                             responseCode = "404",
                             description = "여행 또는 날짜를 찾을 수 없음"
+                    ),
+                    @ApiResponse(
+                            responseCode = "409",
+                            description = "같은 날짜의 일정이 동시에 수정됨 (다시 시도)"
                     )
             }
     )
@@ -91,12 +118,44 @@ public class TripTimelineController {
     /*-----------------------------------------------------------------------------------*/
 
 
+    @Operation(
+            summary = "타임라인 아이템 일괄 저장",
+            description = """
+                    여러 일정을 한 번에 저장합니다. (일정표 가져오기, 드래그 정렬 등)
+                    - timelineId가 있으면 해당 일정을 수정, 없으면 새로 추가
+                    - 요청에 없는 기존 일정은 그대로 유지
+                    - 저장 후 같은 날짜 안에서 시간이 겹치면 전체 실패(400)
+                    - 응답의 timelineIds는 요청 items 순서와 같음
+                    """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "저장 성공",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = TimelineDto.TimelineBulkUpsertResponse.class))),
+            @ApiResponse(responseCode = "400", description = "요청값 오류 (시간 겹침, 없는 날짜/장소/일정 등)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "409", description = "같은 날짜의 일정이 동시에 수정됨 (다시 시도)",
+                    content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    //PUT /trips/{tripId}/timeline
+    @PutMapping("/{tripId}/timeline")
+    public ResponseEntity<TimelineDto.TimelineBulkUpsertResponse> upsertTimelineItems(@PathVariable Long tripId,
+                                                                                       @RequestBody TimelineDto.TimelineBulkUpsertRequest request,
+                                                                                       @AuthenticationPrincipal UserDetails userDetails){
+        List<Long> timelineIds = timelineService.upsertTimelineItems(tripId, request, userDetails.getUsername());
+        return ResponseEntity.ok(new TimelineDto.TimelineBulkUpsertResponse(timelineIds));
+    }
+
+    /*-----------------------------------------------------------------------------------*/
+
+
     @Operation(
             summary = "타임라인 아이템 삭제",
             description = "타임라인 아이템 ID로 일정을 삭제합니다.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "삭제 성공"),
-                    @ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음")
+                    @ApiResponse(responseCode = "404", description = "일정을 찾을 수 없음"),
+                    @ApiResponse(responseCode = "409", description = "다른 요청이 같은 일정을 먼저 삭제함")
             }
     )
     //DELETE /timeline/{timelineId}
@@ -140,7 +199,7 @@ public class TripTimelineController {
             summary = "타임라인 아이템 수정",
             description = """
                     특정 여행(tripId)의 타임라인 아이템(timelineId)을 수정합니다.
-                    - 같은 날짜(TripDay) 내에서 시간이 겹치면 409 반환
+                    - 같은 날짜(TripDay) 내에서 시간이 겹치면 400, 같은 날짜가 동시에 수정되면 409 반환
                     - 끝시간=다음 일정 시작시간은 허용(겹침 아님)
                     """
     )
@@ -150,7 +209,7 @@ public class TripTimelineController {
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "404", description = "대상 리소스 없음 (trip/day/timeline/place not found)",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-            @ApiResponse(responseCode = "409", description = "시간 겹침으로 수정 불가",
+            @ApiResponse(responseCode = "409", description = "같은 날짜의 일정이 동시에 수정됨 (다시 시도)",
                     content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
 
@@ -0,0 +1,57 @@
+package trip.diary.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import trip.diary.dto.CommonResponse;
+import trip.diary.dto.UploadResponse;
+import trip.diary.service.UploadService;
+
+@Tag(name = "이미지 업로드 API", description = "이미지 사전 업로드 (업로드 토큰 발급)")
+@RestController
+@RequestMapping("/uploads")
+@RequiredArgsConstructor
+public class UploadController {
+
+    private final UploadService uploadService;
+
+    // 이미지 사전 업로드
+    @Operation(summary = "이미지 사전 업로드",
+            description = "이미지를 먼저 업로드하고 업로드 토큰을 발급합니다. " +
+                    "여행 등록/수정 시 imageToken, 장소 등록/수정 시 imageTokens 로 전달하면 됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "업로드 성공",
+                    content = @Content(schema = @Schema(implementation = UploadResponse.class))),
+            @ApiResponse(responseCode = "400", description = "업로드할 이미지 없음",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(name = "빈 파일",
+                                    value = """
+                                            {
+                                              "message": "업로드할 이미지가 없습니다."
+                                            }
+                                            """)
+                    ))
+    })
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CommonResponse<UploadResponse>> upload(
+            @Parameter(description = "이미지 파일", required = true)
+            @RequestPart("file") MultipartFile file,
+            @Parameter(hidden = true) @AuthenticationPrincipal UserDetails userDetails) {
+
+        UploadResponse response = uploadService.stage(file, userDetails.getUsername());
+        return ResponseEntity.status(HttpStatus.CREATED).body(CommonResponse.success(response));
+    }
+}
@@ -11,6 +11,7 @@ public record PlaceDetailResponse(
         String category,
         String coverImageUrl,
         List<String> imageUrls,
+        List<PlacePhotoResponse> photos,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
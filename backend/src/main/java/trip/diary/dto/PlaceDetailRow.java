@@ -0,0 +1,22 @@
+package trip.diary.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 장소 상세 조회용 행 (place LEFT JOIN photo, JPQL 생성자 프로젝션)
+ * 사진이 없는 장소는 photo 관련 컬럼이 null
+ */
+public record PlaceDetailRow(
+        String ownerUserId,
+        Long placeId,
+        Long tripId,
+        String name,
+        String description,
+        String category,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long photoId,
+        String imageUrl,
+        Boolean isCover
+) {
+}
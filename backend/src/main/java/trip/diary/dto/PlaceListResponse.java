@@ -1,6 +1,9 @@
 package trip.diary.dto;
 
+import trip.diary.global.image.ImageVariants;
+
 import java.time.LocalDateTime;
+import java.util.Map;
 
 public record PlaceListResponse(
         Long placeId,
@@ -9,7 +12,16 @@ public record PlaceListResponse(
         String description,
         String category,
         String coverImageUrl,
+        Map<String, String> coverImageVariants,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {
+
+    // 목록 조회 JPQL 프로젝션용 (대표 사진의 변형 URL로 srcset 구성)
+    public PlaceListResponse(Long placeId, Long tripId, String name, String description, String category,
+                             String coverImageUrl, String thumbUrl, String mediumUrl,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(placeId, tripId, name, description, category, coverImageUrl,
+                ImageVariants.srcset(coverImageUrl, thumbUrl, mediumUrl), createdAt, updatedAt);
+    }
 }
@@ -0,0 +1,14 @@
+package trip.diary.dto;
+
+import java.util.List;
+
+/**
+ * 장소 목록 조회 응답 (place_id 커서 기반 페이지)
+ * nextCursor: 다음 페이지 요청 시 cursor 로 보낼 값 (마지막 페이지면 null)
+ */
+public record PlacePageResponse(
+        List<PlaceListResponse> places,
+        Long nextCursor,
+        boolean hasNext
+) {
+}
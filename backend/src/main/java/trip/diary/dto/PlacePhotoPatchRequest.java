@@ -0,0 +1,14 @@
+package trip.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@Schema(description = "장소 사진 부분 수정 요청 (기존 사진은 유지하고 지정한 것만 변경)")
+public record PlacePhotoPatchRequest(
+        @Schema(description = "삭제할 사진 ID 목록") List<Long> removePhotoIds,
+        @Schema(description = "대표로 지정할 기존 사진 ID (coverIndex와 함께 보낼 수 없음)", example = "12") Long coverPhotoId,
+        @Schema(description = "대표로 지정할 새 이미지 인덱스 (images 또는 imageTokens 기준, 0부터 시작)") Integer coverIndex,
+        @Schema(description = "사전 업로드(POST /uploads)로 받은 이미지 토큰 목록 (images 파일 대신 사용)")
+        List<String> imageTokens) {
+}
@@ -0,0 +1,8 @@
+package trip.diary.dto;
+
+public record PlacePhotoResponse(
+        Long photoId,
+        String imageUrl,
+        boolean isCover
+) {
+}
@@ -2,10 +2,14 @@ package trip.diary.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.util.List;
+
 @Schema(description = "장소 등록/수정 요청")
 public record PlaceRequest(
         @Schema(description = "장소명", example = "에펠탑") String name,
         @Schema(description = "장소 설명", example = "에펠탑 주변 구경하기") String description,
         @Schema(description = "카테고리", example = "관광지") String category,
-        @Schema(description = "대표 이미지 인덱스 (0부터 시작)") Integer coverIndex) {
+        @Schema(description = "대표 이미지 인덱스 (0부터 시작)") Integer coverIndex,
+        @Schema(description = "사전 업로드(POST /uploads)로 받은 이미지 토큰 목록 (images 파일 대신 사용)")
+        List<String> imageTokens) {
 }
@@ -32,6 +32,38 @@ public class TimelineDto {
             Long timelineId
     ) {}
 
+    // PUT 요청: 여러 일정 일괄 저장 (timelineId가 있으면 수정, 없으면 추가)
+    public record TimelineBulkUpsertRequest(
+            @Schema(description = "저장할 일정 목록")
+            List<TimelineBulkItem> items
+    ) {}
+
+    public record TimelineBulkItem(
+
+            @Schema(description = "수정할 일정 ID (새 일정이면 생략)", example = "3", nullable = true)
+            Long timelineId,
+
+            @Schema(description = "일자 (yyyy-MM-dd)", example = "2026-02-13", type = "string", format = "date")
+            @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+            LocalDate dayDate,
+
+            @Schema(description = "시작 시간 (HH:mm)", example = "09:00", type = "string", format = "time")
+            @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+            LocalTime startTime,
+
+            @Schema(description = "종료 시간 (HH:mm)", example = "10:30", type = "string", format = "time")
+            @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "HH:mm")
+            LocalTime endTime,
+
+            @Schema(description = "장소 ID", example = "10")
+            Long placeId
+    ) {}
+
+    // PUT 응답: 요청 순서대로 저장된 일정 ID
+    public record TimelineBulkUpsertResponse(
+            List<Long> timelineIds
+    ) {}
+
     // GET 응답: 아이템
     public record TimelineItemResponse(
             Long timelineId,
@@ -0,0 +1,13 @@
+package trip.diary.dto;
+
+import java.time.LocalTime;
+
+/**
+ * 겹침 검사용 타임라인 아이템 시간 구간 (JPQL 생성자 프로젝션)
+ */
+public record TimelineInterval(
+        Long itemId,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
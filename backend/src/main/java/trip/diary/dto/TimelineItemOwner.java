@@ -0,0 +1,12 @@
+package trip.diary.dto;
+
+/**
+ * 타임라인 아이템의 소속 날짜/여행/소유자 (권한 확인용, JPQL 생성자 프로젝션)
+ */
+public record TimelineItemOwner(
+        Long itemId,
+        Long dayId,
+        Long tripId,
+        String ownerUserId
+) {
+}
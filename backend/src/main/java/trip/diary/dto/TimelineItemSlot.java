@@ -0,0 +1,14 @@
+package trip.diary.dto;
+
+import java.time.LocalTime;
+
+/**
+ * 여행 전체 타임라인 아이템의 날짜/시간 배치 정보 (일괄 저장 시 겹침 검사용, JPQL 생성자 프로젝션)
+ */
+public record TimelineItemSlot(
+        Long itemId,
+        Long dayId,
+        LocalTime startTime,
+        LocalTime endTime
+) {
+}
@@ -0,0 +1,25 @@
+package trip.diary.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 타임라인 조회용 행 (day LEFT JOIN item LEFT JOIN place, JPQL 생성자 프로젝션)
+ * 아이템이 없는 day는 item 관련 컬럼이 null
+ */
+public record TimelineRow(
+        String ownerUserId,
+        Long dayId,
+        LocalDate dayDate,
+        Integer dayIndex,
+        String themeTitle,
+        String dayNote,
+        Integer budgetPlanned,
+        Integer budgetSpent,
+        Long timelineId,
+        LocalTime startTime,
+        LocalTime endTime,
+        Long placeId,
+        String placeName
+) {
+}
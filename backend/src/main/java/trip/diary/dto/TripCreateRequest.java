@@ -40,6 +40,10 @@ public class TripCreateRequest {
     //@Schema(description = "여행 이미지 (선택)", example = "https://i.imgur.com/bM8yb4v.jpeg")
     //private String imageUrl;
 
+    @Schema(description = "사전 업로드(POST /uploads)로 받은 이미지 토큰 (선택, image 파일 대신 사용)",
+            example = "3f1c2a9e-8d4b-4c1e-9a7f-2b6d5e8c1f00")
+    private String imageToken;
+
     @Schema(description = "여행 설명 (선택)", example = "친구들과 함께 가는 여름 휴가!")
     private String description;
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package trip.diary.dto;
+
+/**
+ * TripDay의 수정 가능한 값 (일괄 수정 시 변경 컬럼 비교용, JPQL 생성자 프로젝션)
+ */
+public record TripDayContent(
+        Long dayId,
+        String themeTitle,
+        String dayNote,
+        Integer budgetPlanned,
+        Integer budgetSpent
+) {
+}
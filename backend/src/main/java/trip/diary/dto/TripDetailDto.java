@@ -47,7 +47,7 @@ public class TripDetailDto {
                 .isDomestic(trip.getIsDomestic())
                 .startDate(trip.getStartDate())
                 .endDate(trip.getEndDate())
-                .status(trip.getStatus())
+                .status(trip.currentStatus())
                 .imageUrl(trip.getImageUrl())
                 .description(trip.getDescription())
                 .build();
@@ -1,13 +1,17 @@
 package trip.diary.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import trip.diary.entity.Trip;
+import trip.diary.global.image.ImageVariants;
 import java.time.LocalDate;
+import java.util.Map;
 
 @Getter
 @Builder
+@AllArgsConstructor
 @Schema(description = "여행 목록 조회 응답 DTO")
 public class TripDto {
 
@@ -38,6 +42,19 @@ public class TripDto {
     @Schema(description = "여행 설명 (Note)", example = "친구들과 함께 갔던 잊지 못할 여름 휴가")
     private String description;
 
+    @Schema(description = "썸네일 이미지 크기별 URL (thumb/medium/full, 변형이 없으면 원본 URL)",
+            example = "{\"thumb\": \"https://.../places/abc_thumb.jpg\", \"medium\": \"https://.../places/abc_medium.jpg\", \"full\": \"https://.../places/abc.jpg\"}")
+    private Map<String, String> imageVariants;
+
+    // JPQL 생성자 프로젝션용 (select new ...), 변형 URL은 image_variants LEFT JOIN 결과
+    public TripDto(Long tripId, String title, String destination, Boolean isDomestic,
+                   LocalDate startDate, LocalDate endDate, int status,
+                   String imageUrl, String description,
+                   String thumbUrl, String mediumUrl) {
+        this(tripId, title, destination, isDomestic, startDate, endDate, status,
+                imageUrl, description, ImageVariants.srcset(imageUrl, thumbUrl, mediumUrl));
+    }
+
     // Entity -> DTO 변환 메서드
     public static TripDto from(Trip trip) {
         return TripDto.builder()
@@ -47,9 +64,10 @@ public class TripDto {
                 .isDomestic(trip.getIsDomestic())
                 .startDate(trip.getStartDate())
                 .endDate(trip.getEndDate())
-                .status(trip.getStatus())
+                .status(trip.currentStatus())
                 .imageUrl(trip.getImageUrl())
                 .description(trip.getDescription())
+                .imageVariants(ImageVariants.srcset(trip.getImageUrl(), null, null))
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package trip.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "여행 목록 조회 응답 DTO (커서 기반 페이지)")
+public class TripPageResponse {
+
+    @Schema(description = "여행 목록 (시작일 최신순)")
+    private List<TripDto> trips;
+
+    @Schema(description = "다음 페이지 요청 시 cursor 로 보낼 값 (마지막 페이지면 null)", example = "2024-07-01_15")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -35,6 +35,10 @@ public class TripUpdateRequest {
     @Schema(description = "수정할 대표 이미지 URL", example = "https://i.imgur.com/5eDmhnp.jpeg")
     private String imageUrl;
 
+    @Schema(description = "사전 업로드(POST /uploads)로 받은 새 대표 이미지 토큰 (선택, image 파일 대신 사용)",
+            example = "3f1c2a9e-8d4b-4c1e-9a7f-2b6d5e8c1f00")
+    private String imageToken;
+
     @Schema(description = "수정할 설명", example = "일정이 변경되어 수정함")
     private String description;
 }
\ No newline at end of file
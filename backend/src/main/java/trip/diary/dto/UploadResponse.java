@@ -0,0 +1,11 @@
+package trip.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "이미지 사전 업로드 응답")
+public record UploadResponse(
+        @Schema(description = "업로드 토큰 (여행/장소 등록·수정 시 imageToken(s)로 전달)",
+                example = "3f1c2a9e-8d4b-4c1e-9a7f-2b6d5e8c1f00") String uploadToken,
+        @Schema(description = "업로드된 이미지 URL",
+                example = "https://res.cloudinary.com/demo/image/upload/places/sample.jpg") String imageUrl) {
+}
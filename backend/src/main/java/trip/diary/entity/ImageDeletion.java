@@ -0,0 +1,58 @@
+package trip.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 저장소에서 지워야 할 이미지 (outbox)
+ * 사진/여행 행을 지우는 트랜잭션에서 함께 기록하고, ImageDeletionWorker가 비동기로 실제 삭제한다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "image_deletions",
+        indexes = {
+                // 처리 대상(next_attempt_at <= now) 조회용
+                @Index(name = "idx_image_deletions_next_attempt", columnList = "next_attempt_at")
+        }
+)
+public class ImageDeletion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "deletion_id")
+    private Long id;
+
+    @Column(name = "storage_key", nullable = false, length = 255)
+    private String storageKey;
+
+    // 변형(thumb/medium) 조회용 원본 URL
+    @Column(name = "image_url", length = 500)
+    private String imageUrl;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ImageDeletion create(String storageKey, String imageUrl) {
+        ImageDeletion deletion = new ImageDeletion();
+        deletion.storageKey = storageKey;
+        deletion.imageUrl = imageUrl;
+        deletion.createdAt = LocalDateTime.now();
+        deletion.nextAttemptAt = deletion.createdAt;
+        return deletion;
+    }
+}
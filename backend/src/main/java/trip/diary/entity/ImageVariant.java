@@ -0,0 +1,55 @@
+package trip.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원본 이미지 URL별 리사이즈 변형(thumb/medium) 정보
+ * 변형이 없는 원본(작은 이미지, 변형 생성 전)은 행이 없거나 URL이 null
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "image_variants")
+public class ImageVariant {
+
+    @Id
+    @Column(name = "original_url", length = 500)
+    private String originalUrl;
+
+    @Column(name = "thumb_url", length = 500)
+    private String thumbUrl;
+
+    @Column(name = "thumb_key", length = 255)
+    private String thumbKey;
+
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+
+    @Column(name = "medium_key", length = 255)
+    private String mediumKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static ImageVariant create(String originalUrl,
+                                      String thumbUrl, String thumbKey,
+                                      String mediumUrl, String mediumKey) {
+        ImageVariant variant = new ImageVariant();
+        variant.originalUrl = originalUrl;
+        variant.thumbUrl = thumbUrl;
+        variant.thumbKey = thumbKey;
+        variant.mediumUrl = mediumUrl;
+        variant.mediumKey = mediumKey;
+        return variant;
+    }
+}
@@ -12,8 +12,13 @@ import java.time.LocalDateTime;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "places")
-
+@Table(
+        name = "places",
+        indexes = {
+                // 장소 목록 페이지 조회용 (trip_id, category, place_id)
+                @Index(name = "idx_places_trip_category", columnList = "trip_id, category, place_id")
+        }
+)
 public class Place {
 
     @Id
@@ -34,6 +39,10 @@ public class Place {
     @Column( length = 30)
     private String category;
 
+    // 대표 사진 URL (place_photos.is_cover 행과 같은 값, 목록 조회에서 사진 테이블을 읽지 않기 위함)
+    @Column(name = "cover_image_url", length = 500)
+    private String coverImageUrl;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
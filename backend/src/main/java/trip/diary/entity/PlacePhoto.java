@@ -7,7 +7,13 @@ import lombok.*;
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "place_photos")
+@Table(
+        name = "place_photos",
+        indexes = {
+                // 장소별 대표 사진 조인용 (place_id, is_cover)
+                @Index(name = "idx_place_photos_place_cover", columnList = "place_id, is_cover")
+        }
+)
 public class PlacePhoto {
 
     @Id
@@ -22,6 +28,14 @@ public class PlacePhoto {
     @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl;
 
+    // 저장소 삭제용 키 (기본 이미지는 null)
+    @Column(name = "storage_key", length = 255)
+    private String storageKey;
+
+    // 원본 바이트 SHA-256 (같은 장소에 같은 이미지를 다시 올리지 않기 위함, 기본 이미지/기존 행은 null)
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(name = "is_cover", nullable = false)
     private Boolean isCover;
 
@@ -43,9 +57,15 @@ public class PlacePhoto {
     }
 
     public static PlacePhoto create(Place place,String imageUrl, Boolean isCover){
+        return create(place, imageUrl, null, null, isCover);
+    }
+
+    public static PlacePhoto create(Place place, String imageUrl, String storageKey, String contentHash, Boolean isCover){
         PlacePhoto photo= new PlacePhoto();
         photo.place=place;
         photo.imageUrl=imageUrl;
+        photo.storageKey=storageKey;
+        photo.contentHash=contentHash;
         photo.isCover=isCover;
         return photo;
     }
@@ -0,0 +1,52 @@
+package trip.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 미리 업로드된 이미지 (업로드 토큰으로 여행/장소에 연결되기 전 상태)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "staged_uploads")
+public class StagedUpload {
+
+    @Id
+    @Column(name = "upload_token", length = 36)
+    private String token;
+
+    @Column(name = "owner_user_id", nullable = false, length = 30)
+    private String ownerUserId;
+
+    @Column(name = "image_url", nullable = false, length = 500)
+    private String imageUrl;
+
+    @Column(name = "storage_key", length = 255)
+    private String storageKey;
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now();
+    }
+
+    public static StagedUpload create(String token, String ownerUserId, String imageUrl, String storageKey, String contentHash) {
+        StagedUpload upload = new StagedUpload();
+        upload.token = token;
+        upload.ownerUserId = ownerUserId;
+        upload.imageUrl = imageUrl;
+        upload.storageKey = storageKey;
+        upload.contentHash = contentHash;
+        return upload;
+    }
+}
@@ -0,0 +1,51 @@
+package trip.diary.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import trip.diary.global.image.UploadResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내용 주소 기반 이미지 (같은 바이트는 한 번만 저장하고 참조 수로 공유)
+ * ref_count: 이 이미지를 가리키는 여행/사진/업로드 토큰 수. 0이 되면 행을 지우고 실제 삭제 대상이 된다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "stored_images",
+        indexes = {
+                // 삭제 대기열(storage_key 기준) 처리 시 조회용
+                @Index(name = "uk_stored_images_storage_key", columnList = "storage_key", unique = true)
+        }
+)
+public class StoredImage {
+
+    @Id
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    @Column(name = "image_url", nullable = false, length = 500)
+    private String imageUrl;
+
+    @Column(name = "storage_key", nullable = false, length = 255)
+    private String storageKey;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 참조 하나 해제 후 남은 참조 수
+    public int release() {
+        return --refCount;
+    }
+
+    public UploadResult toUploadResult() {
+        return new UploadResult(imageUrl, storageKey, contentHash);
+    }
+}
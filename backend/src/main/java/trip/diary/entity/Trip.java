@@ -1,7 +1,5 @@
 package trip.diary.entity;
 
-import java.util.ArrayList;
-import java.util.List;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -17,7 +15,13 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
-@Table(name = "trips")
+@Table(
+        name = "trips",
+        indexes = {
+                // 여행 목록 keyset 페이지 조회용 (user_id, start_date, trip_id)
+                @Index(name = "idx_trips_user_start_date", columnList = "user_id, start_date, trip_id")
+        }
+)
 public class Trip {
 
     @Id
@@ -50,6 +54,9 @@ public class Trip {
     @Column(name = "image_url", nullable = false, length = 500)
     private String imageUrl; // ERD: image_url (기본 이미지 처리가 필요함)
 
+    @Column(name = "image_storage_key", length = 255)
+    private String imageStorageKey; // 업로드한 이미지의 저장소 키 (기본 이미지는 null)
+
     @Column(columnDefinition = "TEXT")
     private String description; // ERD: description (요청의 note 매핑)
 
@@ -61,16 +68,8 @@ public class Trip {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt; // ERD: updated_at
 
-    // 1. 여행 삭제 시 -> 연관된 장소(Place)들도 함께 삭제
-    @OneToMany(mappedBy = "trip", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<Place> places = new ArrayList<>();
-
-    // 2. 여행 삭제 시 -> 연관된 일정(TripDay)들도 함께 삭제
-    @OneToMany(mappedBy = "trip", cascade = CascadeType.ALL, orphanRemoval = true)
-    private List<TripDay> tripDays = new ArrayList<>();
-
     @Builder
-    public Trip(User user, String title, String destination, Boolean isDomestic, LocalDate startDate, LocalDate endDate, int status, String imageUrl, String description) {
+    public Trip(User user, String title, String destination, Boolean isDomestic, LocalDate startDate, LocalDate endDate, int status, String imageUrl, String imageStorageKey, String description) {
         this.user = user;
         this.title = title;
         this.destination = destination;
@@ -79,16 +78,16 @@ public class Trip {
         this.endDate = endDate;
         this.status = status;
         this.imageUrl = imageUrl;
+        this.imageStorageKey = imageStorageKey;
         this.description = description;
     }
 
     // 여행 정보 수정 메서드
-    public void update(String title, String destination, Boolean isDomestic, String imageUrl, String description) {
+    public void update(String title, String destination, Boolean isDomestic, String description) {
         // 값이 들어온 경우에만 수정 (null이면 기존 값 유지)
         if (title != null) this.title = title;
         if (destination != null) this.destination = destination;
         if (isDomestic != null) this.isDomestic = isDomestic;
-        if (imageUrl != null) this.imageUrl = imageUrl;
         if (description != null) this.description = description;
 
         /* 날짜 수정시 상태 계산 로직
@@ -97,13 +96,19 @@ public class Trip {
         } */
     }
 
-    // 날짜 기준으로 상태(status)를 자동 업데이트
-    public void updateStatus() {
-        LocalDate today = LocalDate.now();
+    // 대표 이미지 교체 (이전 이미지 정리는 호출하는 쪽에서 삭제 대기열에 등록)
+    public void changeImage(String imageUrl, String imageStorageKey) {
+        this.imageUrl = imageUrl;
+        this.imageStorageKey = imageStorageKey;
+    }
 
-        // 종료일이 오늘 날짜보다 이전이고 & 기존 상태가 '새로운 여행'이라면 '다녀온 여행'으로 변경
-        if (this.endDate.isBefore(today) && this.status != 1) {
-            this.status = 1;
-        }
+    // 조회 시점 기준 상태 (저장된 status는 스케줄러가 하루 한 번 일괄 갱신)
+    public int currentStatus() {
+        return statusOf(this.endDate, LocalDate.now());
+    }
+
+    // 종료일이 오늘보다 이전이면 1(다녀온 여행), 아니면 2(새로운 여행)
+    public static int statusOf(LocalDate endDate, LocalDate today) {
+        return endDate.isBefore(today) ? 1 : 2;
     }
 }
\ No newline at end of file
@@ -50,6 +50,12 @@ public class TripDay {
     @Column(name = "budget_spent")
     private Integer budgetSpent;
 
+    // 해당 날짜의 타임라인 아이템이 바뀔 때마다 증가 (겹침 검사 캐시 검증 + 동시 수정 감지용)
+    // 조건부 UPDATE 쿼리로만 변경하므로 엔티티 변경 감지 대상에서 제외
+    @Column(name = "items_version", nullable = false, updatable = false,
+            columnDefinition = "bigint not null default 0")
+    private long itemsVersion;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -0,0 +1,29 @@
+package trip.diary.global.config;
+
+import com.cloudinary.Cloudinary;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import trip.diary.global.image.CloudinaryImageStorage;
+import trip.diary.global.image.ImageStorage;
+import trip.diary.global.image.LocalImageStorage;
+
+import java.nio.file.Path;
+
+@Configuration
+@EnableConfigurationProperties(ImageStorageProperties.class)
+public class ImageStorageConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "image.storage.type", havingValue = "cloudinary", matchIfMissing = true)
+    public ImageStorage cloudinaryImageStorage(Cloudinary cloudinary) {
+        return new CloudinaryImageStorage(cloudinary);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "image.storage.type", havingValue = "local")
+    public ImageStorage localImageStorage(ImageStorageProperties props) {
+        return new LocalImageStorage(Path.of(props.getLocal().getRoot()), props.getLocal().getBaseUrl());
+    }
+}
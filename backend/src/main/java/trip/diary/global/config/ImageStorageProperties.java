@@ -0,0 +1,18 @@
+package trip.diary.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter @Setter
+@ConfigurationProperties(prefix = "image.storage")
+public class ImageStorageProperties {
+    private String type = "cloudinary"; // cloudinary | local
+    private Local local = new Local();
+
+    @Getter @Setter
+    public static class Local {
+        private String root = "uploads/images";  // 저장 디렉터리
+        private String baseUrl = "/images";      // 응답에 내려줄 URL prefix (CDN/도메인 포함 가능)
+    }
+}
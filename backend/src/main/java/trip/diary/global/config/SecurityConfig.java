@@ -12,6 +12,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import trip.diary.global.jwt.JwtAuthenticationCache;
 import trip.diary.global.jwt.JwtAuthenticationFilter;
 import trip.diary.global.jwt.JwtTokenProvider;
 import org.springframework.web.cors.CorsConfiguration;
@@ -25,6 +26,7 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Bean
     public static PasswordEncoder passwordEncoder() {
@@ -40,10 +42,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll() // options 인증 요구 허용
                         .requestMatchers("/css/**", "/js/**", "/users/**","/api/users/**", "/h2-console/**",
-                                "/v3/api-docs/**","/swagger-ui/**", "/swagger-ui.html").permitAll()
+                                "/v3/api-docs/**","/swagger-ui/**", "/swagger-ui.html", "/images/**").permitAll()
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, jwtAuthenticationCache), UsernamePasswordAuthenticationFilter.class)
                 .headers(headers -> headers.frameOptions(frameOptions -> frameOptions.disable())); // H2 콘솔 깨짐 방지
 
         return http.build();
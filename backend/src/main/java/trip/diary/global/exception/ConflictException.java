@@ -0,0 +1,7 @@
+package trip.diary.global.exception;
+
+public class ConflictException extends RuntimeException {
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -56,5 +56,10 @@ public class GlobalExceptionHandler {
     public ErrorResponse handleForbidden(ForbiddenException e) {
         return new ErrorResponse(e.getMessage());
     }
-}
 
+    @ExceptionHandler(ConflictException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ErrorResponse handleConflict(ConflictException e) {
+        return new ErrorResponse(e.getMessage());
+    }
+}
@@ -0,0 +1,48 @@
+package trip.diary.global.image;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+/**
+ * Cloudinary 저장소 (storageKey = public_id)
+ */
+@RequiredArgsConstructor
+public class CloudinaryImageStorage implements ImageStorage {
+
+    private final Cloudinary cloudinary;
+
+    @Override
+    public UploadResult store(Path source, String storageKey, String contentType) {
+        try {
+            // File로 넘기면 HTTP 클라이언트가 디스크에서 스트리밍으로 전송
+            Map<?, ?> result = cloudinary.uploader().upload(
+                    source.toFile(),
+                    ObjectUtils.asMap(
+                            "public_id", storageKey,
+                            "resource_type", "image"
+                    )
+            );
+
+            return new UploadResult((String) result.get("secure_url"), (String) result.get("public_id"));
+
+        } catch (IOException e) {
+            throw new RuntimeException("Cloudinary 업로드 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(String storageKey) {
+        if (storageKey == null || storageKey.isBlank()) return;
+
+        try {
+            cloudinary.uploader().destroy(storageKey, ObjectUtils.asMap("resource_type", "image"));
+        } catch (IOException e) {
+            throw new RuntimeException("Cloudinary 삭제 실패", e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package trip.diary.global.image;
+
+import java.nio.file.Path;
+
+/**
+ * 이미지 저장소 SPI (image.storage.type 으로 구현체 선택: cloudinary | local)
+ */
+public interface ImageStorage {
+
+    /**
+     * 디스크에 있는 파일을 저장소에 저장하고 URL과 storageKey를 반환
+     *
+     * @param source      업로드할 파일 (임시 파일)
+     * @param storageKey  저장소 내 식별자 (예: places/uuid)
+     * @param contentType 원본 Content-Type (확장자 결정용, null 가능)
+     */
+    UploadResult store(Path source, String storageKey, String contentType);
+
+    /**
+     * storageKey로 저장된 이미지를 삭제 (없으면 무시)
+     */
+    void delete(String storageKey);
+}
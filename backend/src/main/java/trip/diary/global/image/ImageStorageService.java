@@ -1,60 +1,193 @@
 package trip.diary.global.image;
 
-import com.cloudinary.Cloudinary;
-import com.cloudinary.utils.ObjectUtils;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.util.Map;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class ImageStorageService {
 
-    private final Cloudinary cloudinary;
+    private final ImageStorage imageStorage;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final StoredImageRegistry storedImageRegistry;
+
+    // 여러 장 업로드 시 사용하는 전용 스레드 풀 (동시 업로드 수 제한)
+    private final ExecutorService uploadExecutor;
+
+    public ImageStorageService(ImageStorage imageStorage,
+                               ImageVariantGenerator imageVariantGenerator,
+                               StoredImageRegistry storedImageRegistry,
+                               @Value("${image.upload.concurrency:4}") int uploadConcurrency) {
+        this.imageStorage = imageStorage;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.storedImageRegistry = storedImageRegistry;
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.uploadExecutor = Executors.newFixedThreadPool(uploadConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "image-upload-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 저장소(Cloudinary/로컬) 업로드 후, DB에 저장할 이미지 URL과 삭제용 저장소 키를 반환
+     * 업로드 파일을 힙에 통째로 올리지 않도록 임시 파일을 거쳐 스트리밍으로 전송
+     * 원본 저장 후 임시 파일은 변형(thumb/medium) 생성기로 넘겨 비동기로 처리
+     * 같은 바이트(SHA-256)가 이미 저장돼 있으면 업로드하지 않고 기존 URL을 참조만 늘려 재사용
+     * 결과는 참조 1개를 들고 있으므로, 호출한 쪽 트랜잭션이 실패하면 UploadTransactionTemplate이 해제한다.
+     */
+    public UploadResult upload(MultipartFile file) {
+        return upload(file, null);
+    }
 
     /**
-     * Cloudinary 업로드 후, DB에 저장할 이미지 URL(secure_url)을 반환
+     * contentHash(file)로 이미 계산한 해시가 있으면 다시 계산하지 않고 그대로 사용 (null이면 업로드하면서 계산)
      */
-    public String upload(MultipartFile file) {
+    public UploadResult upload(MultipartFile file, String knownContentHash) {
 
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("업로드할 이미지가 없습니다.");
         }
 
-        String publicId = "places/" + UUID.randomUUID(); // 폴더명은 마음대로 조정 가능
+        String storageKey = "places/" + UUID.randomUUID(); // 폴더명은 마음대로 조정 가능
 
+        Path tempFile = null;
         try {
-            Map<?, ?> result = cloudinary.uploader().upload(
-                    file.getBytes(),
-                    ObjectUtils.asMap(
-                            "public_id", publicId,
-                            "resource_type", "image"
-                    )
-            );
+            // 임시 파일에 쓰면서 같은 스트림으로 SHA-256 계산 (업로드 바이트를 한 번만 읽음)
+            tempFile = Files.createTempFile("image-upload-", ".tmp");
+            MessageDigest digest = knownContentHash == null ? sha256Digest() : null;
+            try (InputStream in = digest == null
+                    ? file.getInputStream()
+                    : new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String contentHash = digest == null ? knownContentHash : HexFormat.of().formatHex(digest.digest());
+
+            Optional<UploadResult> stored = storedImageRegistry.acquire(contentHash);
+            if (stored.isPresent()) {
+                return stored.get();
+            }
 
-            return (String) result.get("secure_url");
+            UploadResult uploaded = imageStorage.store(tempFile, storageKey, file.getContentType());
+            UploadResult result = new UploadResult(uploaded.getUrl(), uploaded.getStorageKey(), contentHash);
+            storedImageRegistry.register(result);
+
+            imageVariantGenerator.submit(tempFile, storageKey, result.getUrl());
+            tempFile = null; // 임시 파일 정리는 변형 생성기가 담당
+            return result;
 
         } catch (IOException e) {
-            throw new RuntimeException("Cloudinary 업로드 실패", e);
+            throw new UncheckedIOException("이미지 업로드 실패", e);
+        } finally {
+            deleteQuietly(tempFile);
         }
     }
 
-    /*
+    /**
+     * 여러 이미지를 병렬로 업로드하고, 요청 순서 그대로 업로드 결과 목록을 반환
+     * (비어있는 파일 자리는 null, 하나라도 실패하면 예외)
+     */
+    public List<UploadResult> uploadAll(List<MultipartFile> files) {
+        return uploadAll(files, null);
+    }
 
-    // 삭제까지 하고 싶으면 public_id 저장해야 함
-    public void deleteByPublicId(String publicId) {
-        if (publicId == null || publicId.isBlank()) return;
+    /**
+     * uploadAll과 같고, contentHashes(파일과 같은 순서, 자리별 null 가능)에 있는 해시는 다시 계산하지 않음
+     */
+    public List<UploadResult> uploadAll(List<MultipartFile> files, List<String> contentHashes) {
+        if (files == null || files.isEmpty()) return List.of();
 
+        List<CompletableFuture<UploadResult>> futures = new ArrayList<>(files.size());
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            String contentHash = contentHashes == null ? null : contentHashes.get(i);
+            if (file == null || file.isEmpty()) {
+                futures.add(CompletableFuture.completedFuture(null));
+            } else {
+                futures.add(CompletableFuture.supplyAsync(() -> upload(file, contentHash), uploadExecutor));
+            }
+        }
+
+        List<UploadResult> results = new ArrayList<>(files.size());
         try {
-            cloudinary.uploader().destroy(publicId, ObjectUtils.asMap("resource_type", "image"));
-        } catch (IOException e) {
-            throw new RuntimeException("Cloudinary 삭제 실패", e);
+            for (CompletableFuture<UploadResult> future : futures) {
+                results.add(future.join());
+            }
+        } catch (CompletionException e) {
+            futures.forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw new RuntimeException("이미지 업로드 실패", e.getCause());
         }
+        return results;
     }
 
+    /**
+     * 업로드 전 중복 확인용 SHA-256 (hex). 파일을 스트림으로 읽어 힙에 통째로 올리지 않음
      */
+    public String contentHash(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            return sha256(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("이미지 해시 계산 실패", e);
+        }
+    }
+
+    public void delete(String storageKey) {
+        imageStorage.delete(storageKey);
+    }
+
+    private static String sha256(InputStream in) throws IOException {
+        MessageDigest digest = sha256Digest();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) return;
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 업로드 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadExecutor.shutdown();
+    }
 }
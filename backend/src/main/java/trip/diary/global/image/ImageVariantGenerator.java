@@ -0,0 +1,182 @@
+package trip.diary.global.image;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 업로드된 원본에서 고정 폭 변형(thumb, medium) JPEG을 만들어 원본 옆에 저장 (순수 JDK ImageIO)
+ * 요청 스레드와 분리된 전용 스레드에서 처리하고, 완료되면 ImageVariantsCreatedEvent 발행
+ */
+@Slf4j
+@Component
+public class ImageVariantGenerator {
+
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final ImageStorage imageStorage;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantGenerator(ImageStorage imageStorage,
+                                 ApplicationEventPublisher eventPublisher,
+                                 @Value("${image.variant.threads:2}") int threads,
+                                 @Value("${image.variant.queue-capacity:200}") int queueCapacity) {
+        this.imageStorage = imageStorage;
+        this.eventPublisher = eventPublisher;
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 변형 생성을 비동기로 예약. source 파일의 소유권을 넘겨받아 처리 후 삭제한다.
+     *
+     * @param source      원본 임시 파일
+     * @param storageKey  원본 storageKey (확장자 제외), 변형은 storageKey_thumb 등으로 저장
+     * @param originalUrl 원본 URL
+     */
+    public void submit(Path source, String storageKey, String originalUrl) {
+        try {
+            executor.execute(() -> generate(source, storageKey, originalUrl));
+        } catch (RejectedExecutionException e) {
+            // 대기열이 가득 차면 변형 없이 원본만 사용 (응답은 원본 URL로 대체됨)
+            log.warn("이미지 변형 대기열이 가득 차서 건너뜀: {}", originalUrl);
+            deleteQuietly(source);
+        }
+    }
+
+    private void generate(Path source, String storageKey, String originalUrl) {
+        try {
+            BufferedImage image = read(source);
+            if (image == null) {
+                log.info("변형을 만들 수 없는 이미지 형식: {}", originalUrl);
+                return;
+            }
+
+            UploadResult thumb = storeVariant(image, storageKey, ImageVariants.THUMB, ImageVariants.THUMB_WIDTH);
+            UploadResult medium = storeVariant(image, storageKey, ImageVariants.MEDIUM, ImageVariants.MEDIUM_WIDTH);
+
+            if (thumb != null || medium != null) {
+                eventPublisher.publishEvent(new ImageVariantsCreatedEvent(originalUrl, thumb, medium));
+            }
+        } catch (Exception e) {
+            log.warn("이미지 변형 생성 실패: {}", originalUrl, e);
+        } finally {
+            deleteQuietly(source);
+        }
+    }
+
+    // 가장 큰 변형의 2배 폭 정도로 서브샘플링해서 디코딩 (원본 전체 해상도를 메모리에 올리지 않음)
+    private BufferedImage read(Path source) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+            if (input == null) return null;
+
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) return null;
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int subsampling = Math.max(1, reader.getWidth(0) / (ImageVariants.MEDIUM_WIDTH * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // 원본이 목표 폭보다 작으면 변형을 만들지 않음 (null -> 원본 URL 사용)
+    private UploadResult storeVariant(BufferedImage image, String storageKey, String name, int width) throws IOException {
+        if (image.getWidth() <= width) return null;
+
+        Path target = Files.createTempFile("image-variant-", ".jpg");
+        try {
+            writeJpeg(resize(image, width), target);
+            return imageStorage.store(target, storageKey + "_" + name, "image/jpeg");
+        } finally {
+            deleteQuietly(target);
+        }
+    }
+
+    // 절반씩 줄여가며 축소 (한 번에 크게 줄일 때 생기는 계단 현상 완화), 투명 영역은 흰 배경
+    private BufferedImage resize(BufferedImage image, int targetWidth) {
+        BufferedImage current = image;
+        int width = image.getWidth();
+        int height = image.getHeight();
+
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+
+            BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, width, height, Color.WHITE, null);
+            graphics.dispose();
+            current = next;
+        } while (width > targetWidth);
+
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 이미지 파일 삭제 실패: {}", path, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,33 @@
+package trip.diary.global.image;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 반응형 이미지 변형(variant) 정의와 srcset 형태의 응답 맵 생성
+ */
+public final class ImageVariants {
+
+    public static final String THUMB = "thumb";
+    public static final String MEDIUM = "medium";
+    public static final String FULL = "full";
+
+    public static final int THUMB_WIDTH = 320;
+    public static final int MEDIUM_WIDTH = 960;
+
+    private ImageVariants() {
+    }
+
+    /**
+     * {thumb, medium, full} URL 맵. 아직 생성되지 않았거나 원본이 더 작은 변형은 원본 URL로 대체
+     */
+    public static Map<String, String> srcset(String originalUrl, String thumbUrl, String mediumUrl) {
+        if (originalUrl == null) return null;
+
+        Map<String, String> srcset = new LinkedHashMap<>();
+        srcset.put(THUMB, thumbUrl != null ? thumbUrl : originalUrl);
+        srcset.put(MEDIUM, mediumUrl != null ? mediumUrl : originalUrl);
+        srcset.put(FULL, originalUrl);
+        return srcset;
+    }
+}
@@ -0,0 +1,11 @@
+package trip.diary.global.image;
+
+/**
+ * 원본 이미지의 변형(thumb/medium) 생성 완료 이벤트 (원본보다 작지 않은 변형은 null)
+ */
+public record ImageVariantsCreatedEvent(
+        String originalUrl,
+        UploadResult thumb,
+        UploadResult medium
+) {
+}
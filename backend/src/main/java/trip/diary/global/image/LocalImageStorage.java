@@ -0,0 +1,77 @@
+package trip.diary.global.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * 로컬 디스크 저장소 (CDN 없이 on-prem 운영용)
+ * 파일은 root 아래 storageKey 경로에 저장되고, WebConfig의 /images/** 핸들러로 서빙된다.
+ */
+public class LocalImageStorage implements ImageStorage {
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp",
+            "image/heic", ".heic"
+    );
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalImageStorage(Path root, String baseUrl) {
+        this.root = root.toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+    }
+
+    @Override
+    public UploadResult store(Path source, String storageKey, String contentType) {
+        String key = storageKey + EXTENSIONS.getOrDefault(contentType, "");
+        Path target = resolve(key);
+
+        try {
+            Files.createDirectories(target.getParent());
+
+            // 커널 영역에서 파일 -> 파일 복사 (유저 공간 버퍼 없이 zero-copy)
+            try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+                 FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                long size = in.size();
+                long position = 0;
+                while (position < size) {
+                    position += out.transferFrom(in, position, size - position);
+                }
+            }
+
+            return new UploadResult(baseUrl + "/" + key, key);
+
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 이미지 저장 실패", e);
+        }
+    }
+
+    @Override
+    public void delete(String storageKey) {
+        if (storageKey == null || storageKey.isBlank()) return;
+
+        try {
+            Files.deleteIfExists(resolve(storageKey));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 이미지 삭제 실패", e);
+        }
+    }
+
+    // root 밖으로 나가는 경로(../ 등) 차단
+    private Path resolve(String storageKey) {
+        Path path = root.resolve(storageKey).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("잘못된 이미지 경로입니다.");
+        }
+        return path;
+    }
+}
@@ -0,0 +1,20 @@
+package trip.diary.global.image;
+
+import java.util.Optional;
+
+/**
+ * 내용 해시(SHA-256) 기준으로 이미 저장된 이미지를 찾고 참조 수를 관리하는 저장소
+ * (구현은 DB 테이블 stored_images, ImageStorageService는 이 인터페이스만 사용)
+ */
+public interface StoredImageRegistry {
+
+    /**
+     * 같은 해시의 이미지가 있으면 참조 수를 1 올리고 기존 URL/저장소 키를 반환
+     */
+    Optional<UploadResult> acquire(String contentHash);
+
+    /**
+     * 새로 저장한 이미지를 참조 수 1로 등록
+     */
+    void register(UploadResult stored);
+}
@@ -8,4 +8,9 @@ import lombok.Getter;
 public class UploadResult {
     private String url;
     private String storageKey; // public_id
+    private String contentHash; // 원본 바이트 SHA-256 (hex), 알 수 없으면 null
+
+    public UploadResult(String url, String storageKey) {
+        this(url, storageKey, null);
+    }
 }
\ No newline at end of file
@@ -1,15 +1,43 @@
 package trip.diary.global.image;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import trip.diary.global.config.ImageStorageProperties;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final ImageStorageProperties imageStorageProperties;
+
+    // 로컬 저장소 이미지 서빙 (Range 요청은 ResourceHttpRequestHandler가 처리)
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        String root = Path.of(imageStorageProperties.getLocal().getRoot()).toAbsolutePath().normalize().toUri().toString();
+
         registry.addResourceHandler("/images/**")
-                .addResourceLocations("file:uploads/images/");
+                .addResourceLocations(root.endsWith("/") ? root : root + "/")
+                // 파일명이 UUID라 내용이 바뀌지 않으므로 오래 캐시
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .setEtagGenerator(WebConfig::strongEtag);
+    }
+
+    // 강한 ETag: 파일명 + 크기 + 수정시각
+    private static String strongEtag(Resource resource) {
+        try {
+            return resource.getFilename() + "-"
+                    + Long.toHexString(resource.contentLength()) + "-"
+                    + Long.toHexString(resource.lastModified());
+        } catch (IOException e) {
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
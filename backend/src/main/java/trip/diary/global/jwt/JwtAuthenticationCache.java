@@ -0,0 +1,91 @@
+package trip.diary.global.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 검증이 끝난 JWT의 Authentication을 토큰 만료 시각(exp)까지 보관하는 캐시.
+ * 같은 토큰으로 들어오는 요청은 서명 검증과 유저 조회(DB)를 다시 하지 않는다.
+ * 키는 토큰 원문이 아니라 SHA-256 해시를 사용한다.
+ */
+@Component
+public class JwtAuthenticationCache {
+
+    private final int maxSize;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public JwtAuthenticationCache(@Value("${jwt.cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public Authentication get(String token) {
+        String key = hash(token);
+        Entry entry = entries.get(key);
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        // 만료된 토큰은 캐시에서 제거하고 miss로 처리 (이후 검증 단계에서 만료로 걸러짐)
+        if (entry.expiresAt() <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.authentication();
+    }
+
+    public void put(String token, Authentication authentication, long expiresAt) {
+        if (expiresAt <= System.currentTimeMillis()) return;
+
+        if (entries.size() >= maxSize) {
+            evictExpired();
+        }
+        // 만료 항목을 정리해도 가득 차 있으면 캐시하지 않는다 (메모리 상한 유지)
+        if (entries.size() >= maxSize) return;
+
+        entries.put(hash(token), new Entry(authentication, expiresAt));
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt() <= now);
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(Authentication authentication, long expiresAt) {
+    }
+}
@@ -1,5 +1,6 @@
 package trip.diary.global.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,6 +17,7 @@ import java.io.IOException;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtAuthenticationCache jwtAuthenticationCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -23,14 +25,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Request Header에서 토큰 추출
         String token = resolveToken(request);
 
-        // 2. 토큰 유효성 검사
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // 3. 토큰이 유효하면 토큰에서 Authentication 객체를 가지고 와서 SecurityContext에 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token != null) {
+            // 2. 이미 검증된 토큰이면 캐시된 Authentication 사용 (서명 검증, DB 조회 생략)
+            Authentication authentication = jwtAuthenticationCache.get(token);
+
+            // 3. 캐시에 없으면 토큰을 한 번만 파싱해서 검증하고, 만료 시각까지 캐시
+            if (authentication == null) {
+                Claims claims = jwtTokenProvider.resolveClaims(token);
+                if (claims != null) {
+                    authentication = jwtTokenProvider.getAuthentication(claims);
+                    jwtAuthenticationCache.put(token, authentication, claims.getExpiration().getTime());
+                }
+            }
+
+            // 4. SecurityContext에 저장
+            if (authentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
         }
 
-        // 4. 다음 필터로 이동 (검사 통과)
+        // 5. 다음 필터로 이동 (검사 통과)
         filterChain.doFilter(request, response);
     }
 
@@ -1,9 +1,7 @@
 package trip.diary.global.jwt;
 
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -11,56 +9,64 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    // 임시 비밀키
+    private static final String SECRET_KEY = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
+    private static final long VALIDITY_IN_MILLISECONDS = 3600000; // 1시간 유효
+
     private final UserDetailsService userDetailsService;
 
-    // 임시 비밀키
-    private final String secretKey = "secretKeysecretKeysecretKeysecretKeysecretKeysecretKey";
-    private final long validityInMilliseconds = 3600000; // 1시간 유효
+    // 서명 키와 파서는 기동 시 한 번만 생성 (JwtParser는 thread-safe)
+    private final Key key;
+    private final JwtParser parser;
 
-    private Key getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(java.util.Base64.getEncoder().encodeToString(secretKey.getBytes()));
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtTokenProvider(UserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+        this.key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     public String createToken(String userId) {
         Date now = new Date();
-        Date validity = new Date(now.getTime() + validityInMilliseconds);
+        Date validity = new Date(now.getTime() + VALIDITY_IN_MILLISECONDS);
 
         return Jwts.builder()
                 .setSubject(userId)
                 .setIssuedAt(now)
                 .setExpiration(validity)
-                .signWith(getKey(), SignatureAlgorithm.HS256)
+                .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public Authentication getAuthentication(String token) {
-        String userId = this.getUserId(token); // 토큰에서 userId 꺼내기
-        UserDetails userDetails = userDetailsService.loadUserByUsername(userId); // DB에서 유저 정보 가져오기
+        return getAuthentication(parser.parseClaimsJws(token).getBody());
+    }
+
+    // 이미 검증된 Claims로 Authentication 생성 (토큰을 다시 파싱하지 않음)
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject()); // DB에서 유저 정보 가져오기
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
     public String getUserId(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
-                .parseClaimsJws(token)
+        return parser.parseClaimsJws(token)
                 .getBody()
                 .getSubject();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱해서 검증된 Claims를 반환. 유효하지 않으면 null
+     */
+    public Claims resolveClaims(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(getKey()).build().parseClaimsJws(token);
-            return true;
+            return parser.parseClaimsJws(token).getBody();
         } catch (SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
         } catch (ExpiredJwtException e) {
@@ -70,6 +76,10 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.info("JWT 토큰이 잘못되었습니다.");
         }
-        return false;
+        return null;
+    }
+
+    public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package trip.diary.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import trip.diary.entity.ImageDeletion;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ImageDeletionRepository extends JpaRepository<ImageDeletion, Long> {
+
+    // 처리 시각이 된 삭제 요청 (오래 기다린 순), 최대 시도 횟수를 다 쓴 행은 제외
+    @Query("""
+            select d from ImageDeletion d
+            where d.nextAttemptAt <= :now and d.attempts < :maxAttempts
+            order by d.nextAttemptAt, d.id
+            """)
+    List<ImageDeletion> findDue(@Param("now") LocalDateTime now,
+                                @Param("maxAttempts") int maxAttempts,
+                                Pageable pageable);
+
+    // 장소 사진 교체/삭제 전: 업로드 이미지만 삭제 대기열에 등록 (INSERT ... SELECT 한 번)
+    @Modifying
+    @Query("""
+            insert into ImageDeletion (storageKey, imageUrl, attempts, nextAttemptAt, createdAt)
+            select pp.storageKey, pp.imageUrl, 0, local_datetime, local_datetime
+            from PlacePhoto pp
+            where pp.place.id = :placeId and pp.storageKey is not null
+            """)
+    int enqueuePhotosOfPlace(@Param("placeId") Long placeId);
+
+    @Modifying
+    @Query("""
+            insert into ImageDeletion (storageKey, imageUrl, attempts, nextAttemptAt, createdAt)
+            select pp.storageKey, pp.imageUrl, 0, local_datetime, local_datetime
+            from PlacePhoto pp
+            where pp.place.id = :placeId and pp.id in :photoIds and pp.storageKey is not null
+            """)
+    int enqueuePhotos(@Param("placeId") Long placeId, @Param("photoIds") Collection<Long> photoIds);
+
+    @Modifying
+    @Query("""
+            insert into ImageDeletion (storageKey, imageUrl, attempts, nextAttemptAt, createdAt)
+            select pp.storageKey, pp.imageUrl, 0, local_datetime, local_datetime
+            from PlacePhoto pp
+            where pp.place.id in (select p.id from Place p where p.trip.id = :tripId)
+              and pp.storageKey is not null
+            """)
+    int enqueuePhotosOfTrip(@Param("tripId") Long tripId);
+
+    @Modifying
+    @Query("""
+            insert into ImageDeletion (storageKey, imageUrl, attempts, nextAttemptAt, createdAt)
+            select t.imageStorageKey, t.imageUrl, 0, local_datetime, local_datetime
+            from Trip t
+            where t.id = :tripId and t.imageStorageKey is not null
+            """)
+    int enqueueTripImage(@Param("tripId") Long tripId);
+
+    // 연결되지 않고 방치된 업로드 토큰의 이미지
+    @Modifying
+    @Query("""
+            insert into ImageDeletion (storageKey, imageUrl, attempts, nextAttemptAt, createdAt)
+            select s.storageKey, s.imageUrl, 0, local_datetime, local_datetime
+            from StagedUpload s
+            where s.createdAt < :cutoff and s.storageKey is not null
+            """)
+    int enqueueStagedUploadsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // 처리할 행 선점: 아직 처리 시각인 행만 next_attempt_at을 leaseUntil로 미룸
+    // (다른 인스턴스가 먼저 잡았거나 이미 지운 행이면 0건)
+    @Modifying
+    @Query("""
+            update ImageDeletion d
+            set d.nextAttemptAt = :leaseUntil
+            where d.id = :id and d.nextAttemptAt <= :now
+            """)
+    int claim(@Param("id") Long id,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("""
+            update ImageDeletion d
+            set d.attempts = :attempts, d.nextAttemptAt = :nextAttemptAt, d.lastError = :lastError
+            where d.id = :id
+            """)
+    int markFailed(@Param("id") Long id,
+                   @Param("attempts") int attempts,
+                   @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                   @Param("lastError") String lastError);
+}
@@ -0,0 +1,7 @@
+package trip.diary.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import trip.diary.entity.ImageVariant;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, String> {
+}
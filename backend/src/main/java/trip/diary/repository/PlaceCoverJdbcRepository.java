@@ -0,0 +1,60 @@
+package trip.diary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * places.cover_image_url 과 place_photos 대표 사진(is_cover) 비교/보정 (place_id 구간 단위)
+ * 테이블 전체를 한 번에 훑지 않도록 PK 구간으로 나눠 실행한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PlaceCoverJdbcRepository {
+
+    // 대표 사진 URL과 다른 장소 (null 포함 비교, 대표 사진이 여러 장이면 photo_id가 가장 작은 것 기준)
+    private static final String FIND_MISMATCHED_SQL = """
+            select p.place_id
+            from places p
+            left join place_photos pp
+                   on pp.photo_id = (select min(c.photo_id) from place_photos c
+                                     where c.place_id = p.place_id and c.is_cover = true)
+            where p.place_id > ? and p.place_id <= ?
+              and ((p.cover_image_url is null and pp.image_url is not null)
+                   or (p.cover_image_url is not null and pp.image_url is null)
+                   or p.cover_image_url <> pp.image_url)
+            order by p.place_id
+            """;
+
+    private static final String UPDATE_COVER_SQL = """
+            update places
+            set cover_image_url = (select pp.image_url from place_photos pp
+                                   where pp.photo_id = (select min(c.photo_id) from place_photos c
+                                                        where c.place_id = ? and c.is_cover = true))
+            where place_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long findMaxPlaceId() {
+        Long maxId = jdbcTemplate.queryForObject("select max(place_id) from places", Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    // (fromExclusive, toInclusive] 구간에서 값이 어긋난 장소 id
+    public List<Long> findMismatchedPlaceIds(long fromExclusive, long toInclusive) {
+        return jdbcTemplate.queryForList(FIND_MISMATCHED_SQL, Long.class, fromExclusive, toInclusive);
+    }
+
+    // 대표 사진 URL로 다시 채움 (배치 UPDATE 한 번)
+    public void refreshCovers(List<Long> placeIds) {
+        if (placeIds.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_COVER_SQL, placeIds, placeIds.size(), (ps, placeId) -> {
+            ps.setLong(1, placeId);
+            ps.setLong(2, placeId);
+        });
+    }
+}
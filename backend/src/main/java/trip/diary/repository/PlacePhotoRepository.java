@@ -1,19 +1,39 @@
 package trip.diary.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import trip.diary.entity.PlacePhoto;
 
 import java.util.*;
 
 public interface PlacePhotoRepository extends JpaRepository<PlacePhoto,Long> {
 
-    Optional<PlacePhoto> findByPlace_IdAndIsCoverTrue(Long placeId);
-
-    List<PlacePhoto> findByPlace_Id(Long placeId);
-
-    List<PlacePhoto> findByPlace_IdInAndIsCoverTrue(List<Long> placeIds);
-
-    void deleteByPlace_Trip_Id(Long tripId);
-
-    void deleteByPlace_Id(Long placeId);
+    List<PlacePhoto> findByPlace_IdOrderByIdAsc(Long placeId);
+
+    // 지정한 사진만 삭제 (다른 장소의 사진 id는 무시)
+    @Modifying
+    @Query("delete from PlacePhoto pp where pp.place.id = :placeId and pp.id in :photoIds")
+    int deleteByPlaceIdAndIdIn(@Param("placeId") Long placeId, @Param("photoIds") Collection<Long> photoIds);
+
+    // 대표 사진 이동: 기존 대표와 새 대표 두 행만 UPDATE 한 번으로 변경
+    // (벌크 UPDATE는 @PreUpdate가 동작하지 않으므로 updatedAt 직접 지정)
+    @Modifying
+    @Query("""
+            update PlacePhoto pp
+            set pp.isCover = case when pp.id = :coverPhotoId then true else false end,
+                pp.updatedAt = local_datetime
+            where pp.place.id = :placeId and (pp.isCover = true or pp.id = :coverPhotoId)
+            """)
+    int moveCover(@Param("placeId") Long placeId, @Param("coverPhotoId") Long coverPhotoId);
+
+    // 여행의 모든 장소 사진 삭제 (엔티티 로딩 없이 DELETE 한 번)
+    @Modifying
+    @Query("delete from PlacePhoto pp where pp.place.id in (select p.id from Place p where p.trip.id = :tripId)")
+    int deleteAllByTripId(@Param("tripId") Long tripId);
+
+    @Modifying
+    @Query("delete from PlacePhoto pp where pp.place.id = :placeId")
+    int deleteByPlace_Id(@Param("placeId") Long placeId);
 }
@@ -1,21 +1,69 @@
 package trip.diary.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import trip.diary.dto.PlaceDetailRow;
+import trip.diary.dto.PlaceListResponse;
 import trip.diary.entity.Place;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
 
-    // 장소 목록 조회
-    List<Place> findByTrip_Id(Long tripId);
+    // 장소 목록 페이지: 장소 + 대표 사진(places.cover_image_url) + 변형 URL을 DTO로 바로 조회 (place_id 순, cursor 이후만)
+    // category/cursor가 null이면 해당 조건 없음 (idx_places_trip_category 사용)
+    @Query("""
+            select new trip.diary.dto.PlaceListResponse(
+                p.id, t.id, p.name, p.description, p.category,
+                p.coverImageUrl, v.thumbUrl, v.mediumUrl, p.createdAt, p.updatedAt)
+            from Place p
+            join p.trip t
+            left join ImageVariant v on v.originalUrl = p.coverImageUrl
+            where t.id = :tripId
+              and (:category is null or p.category = :category)
+              and (:cursor is null or p.id > :cursor)
+            order by p.id asc
+            """)
+    List<PlaceListResponse> findPlacePage(@Param("tripId") Long tripId,
+                                          @Param("category") String category,
+                                          @Param("cursor") Long cursor,
+                                          Pageable pageable);
 
     // 장소 단건 조회
     Optional<Place> findByIdAndTrip_Id(Long id, Long tripId);
 
+    // 장소 상세를 한 번에 조회: 장소 + 사진(id 순) + 소유자 (엔티티 로딩 없음)
+    @Query("""
+            select new trip.diary.dto.PlaceDetailRow(
+                u.userId, p.id, t.id, p.name, p.description, p.category, p.createdAt, p.updatedAt,
+                pp.id, pp.imageUrl, pp.isCover)
+            from Place p
+            join p.trip t
+            join t.user u
+            left join PlacePhoto pp on pp.place = p
+            where p.id = :placeId and t.id = :tripId
+            order by pp.id asc
+            """)
+    List<PlaceDetailRow> findDetailRows(@Param("tripId") Long tripId, @Param("placeId") Long placeId);
+
+    // 여행에 속한 장소인지 확인
+    boolean existsByIdAndTrip_Id(Long id, Long tripId);
+
     // 특정 장소 목록 조회
     List<Place> findByIdInAndTrip_Id(Set<Long> placeIds, Long tripId);
-}
 
+    // 여행에 속한 장소인지 확인용 (엔티티 로딩 없이 id만)
+    @Query("select p.id from Place p where p.trip.id = :tripId and p.id in :placeIds")
+    List<Long> findIdsByTripIdAndIdIn(@Param("tripId") Long tripId, @Param("placeIds") Collection<Long> placeIds);
+
+    // 여행의 모든 장소 삭제 (사진/일정을 먼저 지운 뒤 호출)
+    @Modifying
+    @Query("delete from Place p where p.trip.id = :tripId")
+    int deleteAllByTripId(@Param("tripId") Long tripId);
+}
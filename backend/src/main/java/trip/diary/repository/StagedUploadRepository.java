@@ -0,0 +1,16 @@
+package trip.diary.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import trip.diary.entity.StagedUpload;
+
+import java.time.LocalDateTime;
+
+public interface StagedUploadRepository extends JpaRepository<StagedUpload, String> {
+
+    @Modifying
+    @Query("delete from StagedUpload s where s.createdAt < :cutoff")
+    int deleteAllCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
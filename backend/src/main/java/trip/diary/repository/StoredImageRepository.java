@@ -0,0 +1,36 @@
+package trip.diary.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import trip.diary.entity.StoredImage;
+
+import java.util.Optional;
+
+public interface StoredImageRepository extends JpaRepository<StoredImage, String> {
+
+    // 행이 있을 때만 참조 수 증가 (0건이면 없거나 방금 참조가 0이 되어 삭제된 것)
+    @Modifying
+    @Query("update StoredImage s set s.refCount = s.refCount + 1 where s.contentHash = :contentHash")
+    int incrementRefCount(@Param("contentHash") String contentHash);
+
+    // merge(SELECT 후 UPDATE)가 아니라 INSERT로만 등록: 같은 해시가 이미 있으면 PK 충돌
+    // 충돌 시 호출한 쪽 트랜잭션이 rollback-only가 되지 않도록 자체 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying
+    @Query("""
+            insert into StoredImage (contentHash, imageUrl, storageKey, refCount, createdAt)
+            values (:contentHash, :imageUrl, :storageKey, 1, local_datetime)
+            """)
+    int insert(@Param("contentHash") String contentHash,
+               @Param("imageUrl") String imageUrl,
+               @Param("storageKey") String storageKey);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<StoredImage> findByStorageKey(String storageKey);
+}
@@ -0,0 +1,93 @@
+package trip.diary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Time;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * timeline_items 일괄 저장 (JDBC 배치)
+ * TimelineItem은 IDENTITY 전략이라 Hibernate가 INSERT를 배치로 묶지 못하므로 직접 배치 실행.
+ * MySQL은 rewriteBatchedStatements=true일 때 여러 행 INSERT 한 번으로 전송된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TimelineItemJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into timeline_items (day_id, place_id, start_time, end_time, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            update timeline_items
+            set day_id = ?, place_id = ?, start_time = ?, end_time = ?, updated_at = ?
+            where item_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 새 아이템을 배치 INSERT 하고, 생성된 item_id를 입력 순서대로 반환
+     */
+    public List<Long> insertAll(List<Row> rows) {
+        if (rows.isEmpty()) return List.of();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.execute((ConnectionCallback<List<Long>>) connection -> {
+            try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Row row : rows) {
+                    ps.setLong(1, row.dayId());
+                    ps.setLong(2, row.placeId());
+                    ps.setTime(3, Time.valueOf(row.startTime()));
+                    ps.setTime(4, Time.valueOf(row.endTime()));
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                List<Long> ids = new ArrayList<>(rows.size());
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getLong(1));
+                    }
+                }
+                if (ids.size() != rows.size()) {
+                    throw new IllegalStateException("생성된 timeline item id 개수가 맞지 않습니다.");
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * 기존 아이템을 배치 UPDATE (id 기준)
+     */
+    public void updateAll(List<Row> rows) {
+        if (rows.isEmpty()) return;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(UPDATE_SQL, rows, rows.size(), (ps, row) -> {
+            ps.setLong(1, row.dayId());
+            ps.setLong(2, row.placeId());
+            ps.setTime(3, Time.valueOf(row.startTime()));
+            ps.setTime(4, Time.valueOf(row.endTime()));
+            ps.setTimestamp(5, now);
+            ps.setLong(6, row.itemId());
+        });
+    }
+
+    public record Row(Long itemId, Long dayId, Long placeId, LocalTime startTime, LocalTime endTime) {
+    }
+}
@@ -1,32 +1,74 @@
 package trip.diary.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import trip.diary.dto.TimelineInterval;
+import trip.diary.dto.TimelineItemOwner;
+import trip.diary.dto.TimelineItemSlot;
+import trip.diary.entity.Place;
 import trip.diary.entity.TimelineItem;
+import trip.diary.entity.TripDay;
 
-import java.time.LocalTime;
 import java.util.Collection;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface TimelineItemRepository extends JpaRepository<TimelineItem,Long> {
 
     List<TimelineItem> findByDay_IdInOrderByDay_IdAscStartTimeAsc(Collection<Long> dayIds);
 
-    void deleteByDay_Trip_Id(Long tripId);
-    void deleteByPlace_Id(Long placeId);
-
-    // 같은 day 안에서 시간 겹치는 아이템이 존재하는지
-    // overlap 조건: existing.start < newEnd AND existing.end > newStart
-    boolean existsByDay_IdAndStartTimeLessThanAndEndTimeGreaterThan(
-            Long dayId,
-            LocalTime newEnd,
-            LocalTime newStart
-    );
-
-    //자신을 제외하고 시간 겹치는지 확인
-    boolean existsByDay_IdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(
-            Long dayId,
-            Long excludeTimelineItemId,
-            LocalTime newEnd,
-            LocalTime newStart
-    );
+    // 여행의 모든 일정 삭제 (엔티티 로딩 없이 DELETE 한 번)
+    @Modifying
+    @Query("delete from TimelineItem i where i.day.id in (select d.id from TripDay d where d.trip.id = :tripId)")
+    int deleteAllByTripId(@Param("tripId") Long tripId);
+
+    @Modifying
+    @Query("delete from TimelineItem i where i.place.id = :placeId")
+    int deleteByPlace_Id(@Param("placeId") Long placeId);
+
+    // 겹침 검사 인덱스 로딩용: 하루치 아이템의 시간 구간만 조회
+    @Query("select new trip.diary.dto.TimelineInterval(i.id, i.startTime, i.endTime) from TimelineItem i where i.day.id = :dayId")
+    List<TimelineInterval> findIntervalsByDayId(@Param("dayId") Long dayId);
+
+    // 여행 전체 아이템의 날짜/시간 (일괄 저장 시 메모리 겹침 검사용)
+    @Query("select new trip.diary.dto.TimelineItemSlot(i.id, i.day.id, i.startTime, i.endTime) from TimelineItem i where i.day.trip.id = :tripId")
+    List<TimelineItemSlot> findSlotsByTripId(@Param("tripId") Long tripId);
+
+    // 아이템의 날짜/여행/소유자를 한 번에 조회 (day -> trip -> user 지연 로딩 연쇄 없이 권한 확인)
+    @Query("""
+            select new trip.diary.dto.TimelineItemOwner(i.id, d.id, t.id, u.userId)
+            from TimelineItem i
+            join i.day d
+            join d.trip t
+            join t.user u
+            where i.id = :itemId
+            """)
+    Optional<TimelineItemOwner> findOwnerById(@Param("itemId") Long itemId);
+
+    // 소유자 조건을 포함한 삭제 (0건이면 이미 삭제되었거나 본인 일정이 아님)
+    @Modifying
+    @Query("""
+            delete from TimelineItem i
+            where i.id = :itemId
+              and i.day.id in (select d.id from TripDay d join d.trip t join t.user u where u.userId = :userId)
+            """)
+    int deleteByIdAndOwner(@Param("itemId") Long itemId, @Param("userId") String userId);
+
+    // 엔티티 로딩 없이 일정 변경 (벌크 UPDATE는 @PreUpdate가 동작하지 않으므로 updatedAt 직접 지정)
+    @Modifying
+    @Query("""
+            update TimelineItem i
+            set i.day = :day, i.place = :place, i.startTime = :startTime, i.endTime = :endTime, i.updatedAt = :updatedAt
+            where i.id = :itemId
+            """)
+    int updateSchedule(@Param("itemId") Long itemId,
+                       @Param("day") TripDay day,
+                       @Param("place") Place place,
+                       @Param("startTime") LocalTime startTime,
+                       @Param("endTime") LocalTime endTime,
+                       @Param("updatedAt") LocalDateTime updatedAt);
 }
@@ -0,0 +1,130 @@
+package trip.diary.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Repository;
+import trip.diary.dto.TripDayContent;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * trip_days 일괄 생성/수정 (JDBC 배치)
+ * - 생성: TripDay는 IDENTITY 전략이라 saveAll이 행마다 INSERT를 보내므로 배치 INSERT로 대체
+ *   (MySQL은 rewriteBatchedStatements=true로 여러 행 INSERT로 전송)
+ * - 수정: 엔티티 변경 감지 대신, 실제로 바뀐 컬럼만 골라 같은 컬럼 조합끼리 하나의 배치 UPDATE로 실행
+ */
+@Repository
+@RequiredArgsConstructor
+public class TripDayJdbcRepository {
+
+    private static final String INSERT_SQL = """
+            insert into trip_days (trip_id, day_date, day_index, items_version, created_at, updated_at)
+            values (?, ?, ?, 0, ?, ?)
+            """;
+
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * startDate ~ endDate(포함) 날짜마다 TripDay 생성 (dayIndex는 1부터)
+     *
+     * @return 생성한 날짜 수
+     */
+    public int insertDays(Long tripId, LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = startDate.datesUntil(endDate.plusDays(1)).toList();
+        if (dates.isEmpty()) return 0;
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, dates, INSERT_BATCH_SIZE, (ps, date) -> {
+            ps.setLong(1, tripId);
+            ps.setDate(2, Date.valueOf(date));
+            ps.setInt(3, (int) ChronoUnit.DAYS.between(startDate, date) + 1);
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        return dates.size();
+    }
+
+    /**
+     * before(현재 값)와 비교해서 바뀐 컬럼만 UPDATE
+     *
+     * @return 변경된 날짜 수 (0이면 UPDATE 실행 안 함)
+     */
+    public int updateChangedColumns(Map<Long, TripDayContent> before, List<TripDayContent> after) {
+        // 바뀐 컬럼 조합 -> 해당 날짜들 (조합마다 SQL 하나, 배치 하나)
+        Map<Set<Column>, List<TripDayContent>> groups = new LinkedHashMap<>();
+        for (TripDayContent day : after) {
+            TripDayContent current = before.get(day.dayId());
+            Set<Column> changed = EnumSet.noneOf(Column.class);
+            for (Column column : Column.values()) {
+                if (current == null || !Objects.equals(column.value(current), column.value(day))) {
+                    changed.add(column);
+                }
+            }
+            if (!changed.isEmpty()) {
+                groups.computeIfAbsent(changed, key -> new ArrayList<>()).add(day);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = 0;
+        for (Map.Entry<Set<Column>, List<TripDayContent>> group : groups.entrySet()) {
+            List<Column> columns = List.copyOf(group.getKey());
+            List<TripDayContent> days = group.getValue();
+
+            jdbcTemplate.batchUpdate(updateSql(columns), days, days.size(), (ps, day) -> {
+                int index = 1;
+                for (Column column : columns) {
+                    StatementCreatorUtils.setParameterValue(ps, index++, column.sqlType, column.value(day));
+                }
+                ps.setTimestamp(index++, now);
+                ps.setLong(index, day.dayId());
+            });
+            updated += days.size();
+        }
+        return updated;
+    }
+
+    private static String updateSql(List<Column> columns) {
+        return "update trip_days set "
+                + columns.stream().map(column -> column.name + " = ?").collect(Collectors.joining(", "))
+                + ", updated_at = ? where day_id = ?";
+    }
+
+    private enum Column {
+        THEME_TITLE("theme_title", Types.VARCHAR, TripDayContent::themeTitle),
+        DAY_NOTE("day_note", Types.LONGVARCHAR, TripDayContent::dayNote),
+        BUDGET_PLANNED("budget_planned", Types.INTEGER, TripDayContent::budgetPlanned),
+        BUDGET_SPENT("budget_spent", Types.INTEGER, TripDayContent::budgetSpent);
+
+        private final String name;
+        private final int sqlType;
+        private final Function<TripDayContent, Object> getter;
+
+        Column(String name, int sqlType, Function<TripDayContent, Object> getter) {
+            this.name = name;
+            this.sqlType = sqlType;
+            this.getter = getter;
+        }
+
+        Object value(TripDayContent day) {
+            return getter.apply(day);
+        }
+    }
+}
@@ -1,9 +1,15 @@
 package trip.diary.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import trip.diary.dto.TimelineRow;
+import trip.diary.dto.TripDayContent;
 import trip.diary.entity.TripDay;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,4 +20,38 @@ public interface TripDayRepository extends JpaRepository<TripDay, Long> {
     Optional<TripDay> findByTrip_IdAndDayDate(Long tripId, LocalDate dayDate);
 
     List<TripDay> findAllByTrip_IdAndIdIn(Long tripId, List<Long> ids);
+
+    // 타임라인 전체를 한 번에 조회: day + item + 장소명 + 소유자 (엔티티 로딩 없음)
+    @Query("""
+            select new trip.diary.dto.TimelineRow(
+                u.userId, d.id, d.dayDate, d.dayIndex, d.themeTitle, d.dayNote,
+                d.budgetPlanned, d.budgetSpent,
+                i.id, i.startTime, i.endTime, p.id, p.name)
+            from TripDay d
+            join d.trip t
+            join t.user u
+            left join TimelineItem i on i.day = d
+            left join i.place p
+            where t.id = :tripId
+            order by d.dayDate asc, i.startTime asc, i.id asc
+            """)
+    List<TimelineRow> findTimelineRows(@Param("tripId") Long tripId);
+
+    // 읽었던 버전 그대로일 때만 증가 (0건이면 다른 트랜잭션이 먼저 같은 날짜를 수정한 것)
+    @Modifying
+    @Query("update TripDay d set d.itemsVersion = d.itemsVersion + 1 where d.id = :dayId and d.itemsVersion = :expectedVersion")
+    int incrementItemsVersion(@Param("dayId") Long dayId, @Param("expectedVersion") long expectedVersion);
+
+    // 일괄 수정 전 현재 값 조회 (엔티티 로딩 없이 비교용 값만)
+    @Query("""
+            select new trip.diary.dto.TripDayContent(d.id, d.themeTitle, d.dayNote, d.budgetPlanned, d.budgetSpent)
+            from TripDay d
+            where d.trip.id = :tripId and d.id in :dayIds
+            """)
+    List<TripDayContent> findContentsByTripIdAndIdIn(@Param("tripId") Long tripId, @Param("dayIds") Collection<Long> dayIds);
+
+    // 여행의 모든 날짜 삭제 (일정을 먼저 지운 뒤 호출)
+    @Modifying
+    @Query("delete from TripDay d where d.trip.id = :tripId")
+    int deleteAllByTripId(@Param("tripId") Long tripId);
 }
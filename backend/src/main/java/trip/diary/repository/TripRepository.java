@@ -1,10 +1,75 @@
 package trip.diary.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import trip.diary.dto.TripDto;
 import trip.diary.entity.Trip;
-import trip.diary.entity.User;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface TripRepository extends JpaRepository<Trip, Long> {
-    List<Trip> findAllByUserOrderByStartDateDesc(User user);
-}
\ No newline at end of file
+    // 여행 + 소유자 한 번에 조회 (권한 확인 시 users 추가 SELECT 방지)
+    @Query("select t from Trip t join fetch t.user where t.id = :tripId")
+    Optional<Trip> findWithUserById(@Param("tripId") Long tripId);
+
+    // 권한 확인만 필요한 경우: 엔티티 없이 소유자 아이디만 조회
+    @Query("select u.userId from Trip t join t.user u where t.id = :tripId")
+    Optional<String> findOwnerUserIdById(@Param("tripId") Long tripId);
+
+    // 여행 목록 첫 페이지 (엔티티 없이 DTO로 바로 조회, 시작일 최신순, 썸네일 변형 URL 포함)
+    // status는 저장된 값이 아니라 조회 시점 기준으로 계산 (종료일 < 오늘 이면 1, 아니면 2)
+    @Query("""
+            select new trip.diary.dto.TripDto(
+                t.id, t.title, t.destination, t.isDomestic, t.startDate, t.endDate,
+                case when t.endDate < :today then 1 else 2 end,
+                t.imageUrl, t.description, v.thumbUrl, v.mediumUrl)
+            from Trip t
+            left join ImageVariant v on v.originalUrl = t.imageUrl
+            where t.user.userId = :userId
+              and (:status is null
+                   or (:status = 1 and t.endDate < :today)
+                   or (:status = 2 and t.endDate >= :today))
+            order by t.startDate desc, t.id desc
+            """)
+    List<TripDto> findTripPage(@Param("userId") String userId,
+                               @Param("status") Integer status,
+                               @Param("today") LocalDate today,
+                               Pageable pageable);
+
+    // 여행 목록 다음 페이지: (start_date, trip_id) 커서 이후만 조회 (keyset)
+    @Query("""
+            select new trip.diary.dto.TripDto(
+                t.id, t.title, t.destination, t.isDomestic, t.startDate, t.endDate,
+                case when t.endDate < :today then 1 else 2 end,
+                t.imageUrl, t.description, v.thumbUrl, v.mediumUrl)
+            from Trip t
+            left join ImageVariant v on v.originalUrl = t.imageUrl
+            where t.user.userId = :userId
+              and (:status is null
+                   or (:status = 1 and t.endDate < :today)
+                   or (:status = 2 and t.endDate >= :today))
+              and (t.startDate < :cursorStartDate
+                   or (t.startDate = :cursorStartDate and t.id < :cursorTripId))
+            order by t.startDate desc, t.id desc
+            """)
+    List<TripDto> findTripPageAfter(@Param("userId") String userId,
+                                    @Param("status") Integer status,
+                                    @Param("today") LocalDate today,
+                                    @Param("cursorStartDate") LocalDate cursorStartDate,
+                                    @Param("cursorTripId") Long cursorTripId,
+                                    Pageable pageable);
+
+    // 종료일이 지난 모든 여행을 '다녀온 여행(1)'으로 한 번에 변경 (스케줄러에서 실행)
+    @Modifying
+    @Query("update Trip t set t.status = 1 where t.status <> 1 and t.endDate < :today")
+    int markFinishedTrips(@Param("today") LocalDate today);
+
+    // 자식 행을 모두 지운 뒤 여행 삭제 (cascade 없이 DELETE 한 번)
+    @Modifying
+    @Query("delete from Trip t where t.id = :tripId")
+    int deleteTripById(@Param("tripId") Long tripId);
+}
@@ -0,0 +1,104 @@
+package trip.diary.service;
+
+import trip.diary.dto.TimelineInterval;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 하루(TripDay)의 타임라인 아이템 시간 구간 (불변, 시작 시간 순 정렬 배열)
+ * 같은 날의 아이템은 서로 겹치지 않으므로 시작 시간 순이면 종료 시간도 정렬되어 있고,
+ * 겹침 검사는 종료 시간 배열의 이분 탐색으로 O(log n)에 끝난다.
+ */
+public final class DayIntervalIndex {
+
+    private final long version;
+    private final long[] itemIds;
+    private final LocalTime[] starts;
+    private final LocalTime[] ends;
+
+    private DayIntervalIndex(long version, List<TimelineInterval> sorted) {
+        this.version = version;
+        int size = sorted.size();
+        this.itemIds = new long[size];
+        this.starts = new LocalTime[size];
+        this.ends = new LocalTime[size];
+        for (int i = 0; i < size; i++) {
+            TimelineInterval interval = sorted.get(i);
+            itemIds[i] = interval.itemId();
+            starts[i] = interval.startTime();
+            ends[i] = interval.endTime();
+        }
+    }
+
+    public static DayIntervalIndex of(long version, List<TimelineInterval> intervals) {
+        List<TimelineInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(TimelineInterval::startTime));
+        return new DayIntervalIndex(version, sorted);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public int size() {
+        return itemIds.length;
+    }
+
+    /**
+     * [start, end)와 겹치는 아이템이 있는지 (excludeItemId는 수정 중인 자기 자신, 없으면 null)
+     * 겹침 조건: existing.start < end AND existing.end > start (끝=다음 시작은 허용)
+     */
+    public boolean overlaps(LocalTime start, LocalTime end, Long excludeItemId) {
+        // 종료 시간이 start보다 큰 첫 아이템부터 보면 됨 (그 앞은 모두 start 이전에 끝남)
+        int i = firstEndingAfter(start);
+        for (; i < itemIds.length && starts[i].isBefore(end); i++) {
+            if (excludeItemId == null || itemIds[i] != excludeItemId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 아이템을 추가(같은 id가 있으면 교체)한 새 인덱스
+     */
+    public DayIntervalIndex with(long newVersion, Long itemId, LocalTime start, LocalTime end) {
+        List<TimelineInterval> intervals = toList(itemId);
+        intervals.add(new TimelineInterval(itemId, start, end));
+        return of(newVersion, intervals);
+    }
+
+    /**
+     * 아이템을 제외한 새 인덱스
+     */
+    public DayIntervalIndex without(long newVersion, Long itemId) {
+        return of(newVersion, toList(itemId));
+    }
+
+    private List<TimelineInterval> toList(Long excludeItemId) {
+        List<TimelineInterval> intervals = new ArrayList<>(itemIds.length + 1);
+        for (int i = 0; i < itemIds.length; i++) {
+            if (excludeItemId == null || itemIds[i] != excludeItemId) {
+                intervals.add(new TimelineInterval(itemIds[i], starts[i], ends[i]));
+            }
+        }
+        return intervals;
+    }
+
+    private int firstEndingAfter(LocalTime time) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid].isAfter(time)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,183 @@
+package trip.diary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.entity.ImageDeletion;
+import trip.diary.entity.ImageVariant;
+import trip.diary.global.image.ImageStorageService;
+import trip.diary.repository.ImageDeletionRepository;
+import trip.diary.repository.ImageVariantRepository;
+import trip.diary.repository.StagedUploadRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 대기열(image_deletions)을 비우는 배치.
+ * 먼저 stored_images 참조를 하나 해제하고, 아직 다른 곳에서 쓰는 이미지면 대기열 행만 지운다.
+ * 마지막 참조였던 경우에만 저장소 삭제(외부 HTTP)를 트랜잭션 밖에서 하고, 실패하면 지수 백오프로 다시 예약한다.
+ * 최대 시도 횟수를 넘긴 행은 last_error와 함께 남겨 두고 더 이상 잡지 않는다 (attempts를 되돌리면 다시 처리됨).
+ * 참조 해제 전에 같은 트랜잭션에서 행을 선점(next_attempt_at을 뒤로 미룸)하므로,
+ * 여러 인스턴스가 같은 행을 읽어도 참조 해제는 한 번만 일어난다.
+ */
+@Slf4j
+@Component
+public class ImageDeletionWorker {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final ImageVariantRepository imageVariantRepository;
+    private final StagedUploadRepository stagedUploadRepository;
+    private final StoredImageService storedImageService;
+    private final ImageStorageService imageStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final int maxBatches;
+    private final Duration baseBackoff;
+    private final Duration maxBackoff;
+    private final int maxAttempts;
+    private final Duration stagedUploadTtl;
+
+    public ImageDeletionWorker(ImageDeletionRepository imageDeletionRepository,
+                               ImageVariantRepository imageVariantRepository,
+                               StagedUploadRepository stagedUploadRepository,
+                               StoredImageService storedImageService,
+                               ImageStorageService imageStorageService,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${image.gc.batch-size:100}") int batchSize,
+                               @Value("${image.gc.max-batches:10}") int maxBatches,
+                               @Value("${image.gc.backoff-base-seconds:60}") long baseBackoffSeconds,
+                               @Value("${image.gc.backoff-max-seconds:21600}") long maxBackoffSeconds,
+                               @Value("${image.gc.max-attempts:20}") int maxAttempts,
+                               @Value("${image.gc.staged-upload-ttl-hours:24}") long stagedUploadTtlHours) {
+        this.imageDeletionRepository = imageDeletionRepository;
+        this.imageVariantRepository = imageVariantRepository;
+        this.stagedUploadRepository = stagedUploadRepository;
+        this.storedImageService = storedImageService;
+        this.imageStorageService = imageStorageService;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.baseBackoff = Duration.ofSeconds(baseBackoffSeconds);
+        this.maxBackoff = Duration.ofSeconds(maxBackoffSeconds);
+        this.maxAttempts = maxAttempts;
+        this.stagedUploadTtl = Duration.ofHours(stagedUploadTtlHours);
+    }
+
+    // 한 번 실행에 최대 batchSize * maxBatches 건 처리 (실패한 행은 다음 시도 시각이 미래라 다시 잡히지 않음)
+    @Scheduled(fixedDelayString = "${image.gc.interval-ms:60000}")
+    public void drain() {
+        int deleted = 0;
+        int failed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<ImageDeletion> due = imageDeletionRepository.findDue(LocalDateTime.now(), maxAttempts, PageRequest.of(0, batchSize));
+
+            for (ImageDeletion deletion : due) {
+                if (process(deletion)) {
+                    deleted++;
+                } else {
+                    failed++;
+                }
+            }
+            if (due.size() < batchSize) break;
+        }
+
+        if (deleted > 0 || failed > 0) {
+            log.info("이미지 삭제 대기열 처리: 삭제 {}건, 재시도 예약 {}건", deleted, failed);
+        }
+    }
+
+    // 토큰만 발급받고 여행/장소에 연결하지 않은 업로드를 삭제 대기열로 이동
+    @Scheduled(cron = "${image.gc.staged-upload-cron:0 30 * * * *}")
+    @Transactional
+    public void expireStagedUploads() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(stagedUploadTtl);
+
+        int enqueued = imageDeletionRepository.enqueueStagedUploadsBefore(cutoff);
+        int expired = stagedUploadRepository.deleteAllCreatedBefore(cutoff);
+        log.info("만료된 업로드 토큰 정리: {}건 (삭제 대기열 등록 {}건)", expired, enqueued);
+    }
+
+    boolean process(ImageDeletion deletion) {
+        try {
+            // 행 선점, 참조 해제, 대기열 행 삭제를 한 트랜잭션으로
+            // 선점하지 못하면 다른 인스턴스가 처리 중이거나 이미 끝난 행이므로 건너뜀 (참조 수가 두 번 줄지 않음)
+            // 마지막 참조면 stored_images 행만 지우고 대기열 행은 남겨 실제 삭제까지 재시도
+            // (재시도 때는 stored_images 행이 없어 release가 바로 true)
+            Claim claim = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                if (imageDeletionRepository.claim(deletion.getId(), now, now.plus(baseBackoff)) == 0) {
+                    return Claim.SKIPPED;
+                }
+                if (!storedImageService.release(deletion.getStorageKey())) {
+                    imageDeletionRepository.deleteById(deletion.getId());
+                    return Claim.RELEASED;
+                }
+                return Claim.LAST_REFERENCE;
+            });
+            if (claim != Claim.LAST_REFERENCE) return true;
+
+            imageStorageService.delete(deletion.getStorageKey());
+
+            // 원본에서 만들어진 변형(thumb/medium)도 함께 삭제
+            ImageVariant variant = deletion.getImageUrl() == null
+                    ? null
+                    : imageVariantRepository.findById(deletion.getImageUrl()).orElse(null);
+            if (variant != null) {
+                imageStorageService.delete(variant.getThumbKey());
+                imageStorageService.delete(variant.getMediumKey());
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (variant != null) {
+                    imageVariantRepository.deleteById(variant.getOriginalUrl());
+                }
+                imageDeletionRepository.deleteById(deletion.getId());
+            });
+            return true;
+
+        } catch (RuntimeException e) {
+            int attempts = deletion.getAttempts() + 1;
+            LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+
+            transactionTemplate.executeWithoutResult(status ->
+                    imageDeletionRepository.markFailed(deletion.getId(), attempts, nextAttemptAt, truncate(e.toString())));
+            if (attempts >= maxAttempts) {
+                log.error("이미지 삭제 포기 (key={}, 시도 {}회), 수동 확인 필요", deletion.getStorageKey(), attempts, e);
+            } else {
+                log.warn("이미지 삭제 실패 (key={}, 시도 {}회, 다음 시도 {})",
+                        deletion.getStorageKey(), attempts, nextAttemptAt, e);
+            }
+            return false;
+        }
+    }
+
+    // base * 2^(attempts-1), 최대 maxBackoff
+    Duration backoff(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        Duration delay = baseBackoff.multipliedBy(1L << shift);
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    private enum Claim {
+        // 다른 인스턴스가 먼저 선점했거나 이미 처리됨
+        SKIPPED,
+        // 참조만 해제하고 대기열 행 삭제
+        RELEASED,
+        // 마지막 참조, 저장소에서 실제 삭제 필요
+        LAST_REFERENCE
+    }
+}
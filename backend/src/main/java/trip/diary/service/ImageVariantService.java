@@ -0,0 +1,33 @@
+package trip.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import trip.diary.entity.ImageVariant;
+import trip.diary.global.image.ImageVariantsCreatedEvent;
+import trip.diary.global.image.UploadResult;
+import trip.diary.repository.ImageVariantRepository;
+
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private final ImageVariantRepository imageVariantRepository;
+
+    // 변형 생성기 스레드에서 발행, 원본 URL 기준으로 변형 정보 저장
+    @EventListener
+    @Transactional
+    public void onVariantsCreated(ImageVariantsCreatedEvent event) {
+        UploadResult thumb = event.thumb();
+        UploadResult medium = event.medium();
+
+        imageVariantRepository.save(ImageVariant.create(
+                event.originalUrl(),
+                thumb != null ? thumb.getUrl() : null,
+                thumb != null ? thumb.getStorageKey() : null,
+                medium != null ? medium.getUrl() : null,
+                medium != null ? medium.getStorageKey() : null
+        ));
+    }
+}
@@ -0,0 +1,76 @@
+package trip.diary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import trip.diary.repository.PlaceCoverJdbcRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * places.cover_image_url 일회성 백필 / 정합성 점검.
+ * place.cover.reconcile=check 이면 어긋난 장소 수만 기록하고, fix 이면 대표 사진 URL로 다시 채운다 (컬럼 추가 직후 백필 포함).
+ * place_id 구간(batch-size)마다 조회/수정하므로 큰 테이블에서도 긴 잠금이나 큰 트랜잭션이 생기지 않는다.
+ */
+@Slf4j
+@Component
+public class PlaceCoverReconciler implements ApplicationRunner {
+
+    private static final int MAX_LOGGED_IDS = 20;
+
+    private final PlaceCoverJdbcRepository placeCoverJdbcRepository;
+    private final String mode;
+    private final int batchSize;
+
+    public PlaceCoverReconciler(PlaceCoverJdbcRepository placeCoverJdbcRepository,
+                                @Value("${place.cover.reconcile:off}") String mode,
+                                @Value("${place.cover.reconcile-batch-size:1000}") int batchSize) {
+        this.placeCoverJdbcRepository = placeCoverJdbcRepository;
+        this.mode = mode;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        switch (mode) {
+            case "check" -> reconcile(false);
+            case "fix" -> reconcile(true);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * @return 어긋난 장소 수 (fix면 보정한 수)
+     */
+    public long reconcile(boolean fix) {
+        long maxPlaceId = placeCoverJdbcRepository.findMaxPlaceId();
+        long mismatched = 0;
+        List<Long> sample = new ArrayList<>();
+
+        for (long from = 0; from < maxPlaceId; from += batchSize) {
+            List<Long> placeIds = placeCoverJdbcRepository.findMismatchedPlaceIds(from, from + batchSize);
+            if (placeIds.isEmpty()) continue;
+
+            mismatched += placeIds.size();
+            if (sample.size() < MAX_LOGGED_IDS) {
+                sample.addAll(placeIds.subList(0, Math.min(placeIds.size(), MAX_LOGGED_IDS - sample.size())));
+            }
+            if (fix) {
+                placeCoverJdbcRepository.refreshCovers(placeIds);
+            }
+        }
+
+        if (fix) {
+            log.info("장소 대표 이미지 보정 완료: {}건", mismatched);
+        } else if (mismatched > 0) {
+            log.warn("대표 이미지가 어긋난 장소 {}건 (예: {})", mismatched, sample);
+        } else {
+            log.info("장소 대표 이미지 정합성 확인: 이상 없음");
+        }
+        return mismatched;
+    }
+}
@@ -0,0 +1,63 @@
+package trip.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import trip.diary.entity.StoredImage;
+import trip.diary.global.image.StoredImageRegistry;
+import trip.diary.global.image.UploadResult;
+import trip.diary.repository.StoredImageRepository;
+
+import java.util.Optional;
+
+/**
+ * stored_images 참조 수 관리
+ * 업로드 1건(토큰 발급 포함)이 참조 1개이고, 삭제 대기열(image_deletions) 1건이 참조 1개를 해제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StoredImageService implements StoredImageRegistry {
+
+    private final StoredImageRepository storedImageRepository;
+
+    @Override
+    @Transactional
+    public Optional<UploadResult> acquire(String contentHash) {
+        // UPDATE가 행 잠금을 잡으므로 release와 겹쳐도 참조 수가 어긋나지 않음
+        if (storedImageRepository.incrementRefCount(contentHash) == 0) {
+            return Optional.empty();
+        }
+        return storedImageRepository.findById(contentHash).map(StoredImage::toUploadResult);
+    }
+
+    @Override
+    public void register(UploadResult stored) {
+        try {
+            storedImageRepository.insert(stored.getContentHash(), stored.getUrl(), stored.getStorageKey());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 바이트를 동시에 올린 경우: 먼저 등록된 사본만 공유되고, 이 사본은 추적 없이 남아 삭제 시 바로 지워진다
+            log.info("이미 등록된 이미지 해시입니다. 공유하지 않고 별도 사본으로 사용: {}", stored.getStorageKey());
+        }
+    }
+
+    /**
+     * 참조 하나 해제 (삭제 대기열 처리와 같은 트랜잭션에서 호출)
+     *
+     * @return 실제로 저장소에서 지워야 하면 true (마지막 참조였거나 추적하지 않는 이미지)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean release(String storageKey) {
+        Optional<StoredImage> stored = storedImageRepository.findByStorageKey(storageKey);
+        if (stored.isEmpty()) return true;
+
+        StoredImage image = stored.get();
+        if (image.release() > 0) return false;
+
+        storedImageRepository.delete(image);
+        return true;
+    }
+}
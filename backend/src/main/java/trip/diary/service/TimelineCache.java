@@ -0,0 +1,156 @@
+package trip.diary.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import trip.diary.dto.TimelineDto;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 여행별 타임라인 응답(JSON 직렬화 결과) 캐시
+ * 타임라인/날짜/장소가 바뀌면 여행의 버전을 올리고, 캐시는 (tripId, version)이 일치할 때만 사용.
+ * ETag = "tripId-기동시각-version" (재기동 후 예전 ETag와 겹치지 않도록 기동 시각 포함)
+ * 버전은 여행별 카운터가 아니라 전역 시계 값이라, 기록을 지워도 floor(지운 시점의 시계) 이상이 되어 예전 값으로 돌아가지 않음
+ */
+@Component
+public class TimelineCache {
+
+    private final ObjectMapper objectMapper;
+    private final TripAuthorizationService tripAuthorizationService;
+    private final int maxEntries;
+    private final int maxVersions;
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+
+    private final AtomicLong clock = new AtomicLong();
+    // 버전 기록이 없는 여행의 버전 (기록을 비울 때 그 시점 시계 값으로 올림)
+    private volatile long floor = 0L;
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+    private final Map<Long, Snapshot> snapshots = new ConcurrentHashMap<>();
+
+    public TimelineCache(ObjectMapper objectMapper,
+                         TripAuthorizationService tripAuthorizationService,
+                         @Value("${timeline.cache.max-entries:1000}") int maxEntries,
+                         @Value("${timeline.cache.max-versions:10000}") int maxVersions) {
+        this.objectMapper = objectMapper;
+        this.tripAuthorizationService = tripAuthorizationService;
+        this.maxEntries = maxEntries;
+        this.maxVersions = maxVersions;
+    }
+
+    /**
+     * 현재 버전의 캐시가 있으면 DB 조회 없이 반환, 없으면 loader로 조회 후 저장
+     */
+    public Snapshot getOrLoad(Long tripId, String userId, Supplier<TimelineDto.TimelineListResponse> loader) {
+        // 조회 전에 버전을 먼저 읽어야, 조회 중 변경되면 낡은 버전으로 저장되어 다음 요청에서 무시됨
+        long version = currentVersion(tripId);
+
+        Snapshot cached = snapshots.get(tripId);
+        if (cached != null && cached.version() == version) {
+            tripAuthorizationService.checkOwner(cached.ownerUserId(), userId);
+            return cached;
+        }
+
+        // loader 안에서 권한 확인이 끝났으므로 요청자가 곧 소유자
+        Snapshot loaded = new Snapshot(version, userId, etag(tripId, version), serialize(loader.get()));
+        store(tripId, loaded);
+        return loaded;
+    }
+
+    /**
+     * 여행의 타임라인 버전 증가. 트랜잭션 안이면 커밋 후에 올린다
+     * (커밋 전에 올리면 그 사이 다른 요청이 변경 전 데이터를 새 버전으로 캐시할 수 있음)
+     */
+    public void invalidate(Long tripId) {
+        afterCommit(() -> bump(tripId));
+    }
+
+    /**
+     * 삭제된 여행의 버전 기록과 캐시 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void evict(Long tripId) {
+        afterCommit(() -> {
+            versions.remove(tripId);
+            snapshots.remove(tripId);
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    // 쓰기(커밋 후)에서만 호출되므로 직렬화해도 조회 경로에는 영향 없음
+    private synchronized void bump(Long tripId) {
+        if (versions.size() >= maxVersions && !versions.containsKey(tripId)) {
+            // 기록이 가득 차면 floor를 현재 시계로 올리고 전부 비움
+            // (모든 여행의 버전이 지금까지 나간 어떤 값과도 달라지므로 캐시는 한 번씩 다시 채워짐)
+            floor = clock.get();
+            versions.clear();
+        }
+        long version = clock.incrementAndGet();
+        versions.put(tripId, version);
+        snapshots.remove(tripId);
+    }
+
+    private long currentVersion(Long tripId) {
+        return versions.getOrDefault(tripId, floor);
+    }
+
+    private void store(Long tripId, Snapshot snapshot) {
+        if (snapshots.size() >= maxEntries && !snapshots.containsKey(tripId)) {
+            // 가득 차면 반복 순서상 첫 항목 하나를 비움 (의도적으로 LRU가 아님)
+            // ConcurrentHashMap 순서라 사실상 임의의 여행이지만, 잘못 고른 비용은 다음 조회의 DB 1회뿐이고
+            // 조회마다 접근 순서를 갱신하는 잠금/기록 없이 O(1)로 끝남
+            Iterator<Long> it = snapshots.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        // 더 최신 버전이 이미 저장되어 있으면 덮어쓰지 않음
+        snapshots.merge(tripId, snapshot, (old, loaded) -> old.version() >= loaded.version() ? old : loaded);
+    }
+
+    private String etag(Long tripId, long version) {
+        return "\"" + tripId + "-" + epoch + "-" + version + "\"";
+    }
+
+    private byte[] serialize(TimelineDto.TimelineListResponse response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("타임라인 직렬화 실패", e);
+        }
+    }
+
+    public record Snapshot(long version, String ownerUserId, String etag, byte[] body) {
+
+        // If-None-Match 헤더(쉼표 구분 목록, 약한 ETag 포함)에 현재 ETag가 있는지
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) return false;
+
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) tag = tag.substring(2);
+                if (tag.equals("*") || tag.equals(etag)) return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package trip.diary.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import trip.diary.entity.TripDay;
+import trip.diary.global.exception.ConflictException;
+import trip.diary.repository.TimelineItemRepository;
+import trip.diary.repository.TripDayRepository;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 타임라인 아이템 시간 겹침 검사
+ * - 날짜(TripDay)별 구간 인덱스를 메모리에 캐시하고, TripDay.itemsVersion이 같을 때만 사용
+ * - 검사 통과 후 itemsVersion을 "읽은 값일 때만" 증가시켜 DB에서 동시 수정을 막음 (실패 시 409)
+ * - 캐시는 커밋이 끝난 뒤에만 갱신
+ * - 아이템이 빠지는 변경은 버전을 올리지 않으므로, 캐시에서 겹침으로 나오면 DB에서 다시 읽어 확인
+ */
+@Component
+public class TimelineOverlapGuard {
+
+    private final TimelineItemRepository timelineItemRepository;
+    private final TripDayRepository tripDayRepository;
+    private final int maxDays;
+
+    private final Map<Long, DayIntervalIndex> indexes = new ConcurrentHashMap<>();
+
+    public TimelineOverlapGuard(TimelineItemRepository timelineItemRepository,
+                                TripDayRepository tripDayRepository,
+                                @Value("${timeline.overlap-index.max-days:5000}") int maxDays) {
+        this.timelineItemRepository = timelineItemRepository;
+        this.tripDayRepository = tripDayRepository;
+        this.maxDays = maxDays;
+    }
+
+    /**
+     * day에 [start, end) 구간을 넣을 수 있는지 검사하고 day의 아이템 버전을 선점
+     * day는 현재 트랜잭션에서 조회한 엔티티여야 함 (itemsVersion 기준)
+     *
+     * @return 증가된 버전 (커밋 후 캐시 갱신 시 사용)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long reserve(TripDay day, LocalTime start, LocalTime end, Long excludeItemId) {
+        DayIntervalIndex index = cachedIndex(day);
+        // 삭제/이동은 버전을 올리지 않으므로 캐시에 이미 빠진 아이템이 남아 있을 수 있음 -> 겹침이면 DB에서 다시 확인
+        if (index != null && index.overlaps(start, end, excludeItemId)) {
+            index = null;
+        }
+        if (index == null) {
+            index = reload(day);
+        }
+        if (index.overlaps(start, end, excludeItemId)) {
+            throw new IllegalArgumentException("time overlap exists");
+        }
+
+        if (tripDayRepository.incrementItemsVersion(day.getId(), day.getItemsVersion()) == 0) {
+            throw new ConflictException("같은 날짜의 일정이 동시에 수정되었습니다. 다시 시도해주세요.");
+        }
+        return day.getItemsVersion() + 1;
+    }
+
+    /**
+     * 일괄 저장: 겹침은 호출한 쪽에서 검사하고, 대상 날짜들의 버전만 선점
+     * (캐시 인덱스는 버전이 바뀌므로 다음 조회 때 다시 로딩됨)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserveAll(Collection<TripDay> days) {
+        for (TripDay day : days) {
+            if (tripDayRepository.incrementItemsVersion(day.getId(), day.getItemsVersion()) == 0) {
+                throw new ConflictException("같은 날짜의 일정이 동시에 수정되었습니다. 다시 시도해주세요.");
+            }
+        }
+    }
+
+    /**
+     * 아이템이 빠지는 변경(삭제, 다른 날짜로 이동): 겹침이 생길 수 없으므로 DB 버전은 그대로 두고,
+     * 커밋 후 이 서버의 캐시만 비움 (다른 서버의 캐시는 겹침 판정 시 DB 재확인으로 보정)
+     * 트랜잭션 밖이면 바로 비움 (TimelineCache.invalidate와 같은 방식)
+     */
+    public void release(Long dayId) {
+        afterCommit(() -> indexes.remove(dayId));
+    }
+
+    /**
+     * reserve 이후 아이템 저장까지 끝났을 때 호출: 커밋되면 캐시 인덱스에 반영 (트랜잭션 밖이면 바로 반영)
+     */
+    public void putAfterCommit(Long dayId, long reservedVersion, Long itemId, LocalTime start, LocalTime end) {
+        // 캐시가 선점 직전 버전일 때만 이어서 갱신 (그 사이 다른 변경이 있었다면 다음 조회 때 다시 로딩)
+        afterCommit(() -> indexes.computeIfPresent(dayId, (id, index) -> index.version() == reservedVersion - 1
+                ? index.with(reservedVersion, itemId, start, end)
+                : null));
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private DayIntervalIndex cachedIndex(TripDay day) {
+        DayIntervalIndex cached = indexes.get(day.getId());
+        return cached != null && cached.version() == day.getItemsVersion() ? cached : null;
+    }
+
+    private DayIntervalIndex reload(TripDay day) {
+        DayIntervalIndex loaded = DayIntervalIndex.of(day.getItemsVersion(),
+                timelineItemRepository.findIntervalsByDayId(day.getId()));
+        cache(day.getId(), loaded);
+        return loaded;
+    }
+
+    private void cache(Long dayId, DayIntervalIndex index) {
+        if (indexes.size() >= maxDays && !indexes.containsKey(dayId)) {
+            Iterator<Long> it = indexes.keySet().iterator();
+            if (it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+        }
+        // 더 최신 버전이 이미 있으면 유지 (같은 버전이면 방금 DB에서 읽은 쪽이 정확)
+        indexes.merge(dayId, index, (old, loaded) -> old.version() > loaded.version() ? old : loaded);
+    }
+}
@@ -4,23 +4,36 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import trip.diary.dto.TimelineDto;
+import trip.diary.dto.TimelineItemOwner;
+import trip.diary.dto.TimelineItemSlot;
+import trip.diary.dto.TimelineRow;
+import trip.diary.dto.TripDayContent;
 import trip.diary.dto.TimelineItemUpdateRequest;
 import trip.diary.dto.TripDayBulkUpdateRequest;
 import trip.diary.entity.Place;
 import trip.diary.entity.TimelineItem;
 import trip.diary.entity.TripDay;
+import trip.diary.global.exception.ConflictException;
 import trip.diary.global.exception.NotFoundException;
 import trip.diary.repository.PlaceRepository;
+import trip.diary.repository.TimelineItemJdbcRepository;
 import trip.diary.repository.TimelineItemRepository;
+import trip.diary.repository.TripDayJdbcRepository;
 import trip.diary.repository.TripDayRepository;
 
-import java.time.LocalTime;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,69 +45,66 @@ public class TimelineService {
     private final TimelineItemRepository timelineItemRepository;
     private final PlaceRepository placeRepository;
     private final TripAuthorizationService tripAuthorizationService;
+    private final TimelineCache timelineCache;
+    private final TimelineOverlapGuard timelineOverlapGuard;
+    private final TimelineItemJdbcRepository timelineItemJdbcRepository;
+    private final TimelineWriteCoordinator timelineWriteCoordinator;
+    private final TripDayJdbcRepository tripDayJdbcRepository;
+
+    // 일괄 저장 한 번에 받을 수 있는 최대 일정 수
+    private static final int MAX_BULK_ITEMS = 500;
 
     @Transactional(readOnly = true)
     public TimelineDto.TimelineListResponse getTimeline(Long tripId, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-
-        List<TripDay> days = tripDayRepository.findByTrip_IdOrderByDayDateAsc(tripId);
-        if (days.isEmpty()) {
+        // day/item/장소명/소유자를 쿼리 1회로 조회 (정렬: dayDate, startTime)
+        List<TimelineRow> rows = tripDayRepository.findTimelineRows(tripId);
+        if (rows.isEmpty()) {
+            // day가 없는 여행이거나 존재하지 않는 여행 -> 404/403 구분을 위해 권한 확인
+            tripAuthorizationService.verifyOwner(tripId, userId);
             return new TimelineDto.TimelineListResponse(List.of());
         }
 
-        List<Long> dayIds = days.stream().map(TripDay::getId).toList();
-        List<TimelineItem> items = timelineItemRepository
-                .findByDay_IdInOrderByDay_IdAscStartTimeAsc(dayIds);
-
-        Set<Long> placeIds = items.stream()
-                .map(TimelineItem::getPlace)
-                .filter(Objects::nonNull)
-                .map(Place::getId)
-                .collect(Collectors.toSet());
+        tripAuthorizationService.checkOwner(rows.get(0).ownerUserId(), userId);
+
+        // 행이 day 순서로 정렬되어 있으므로 연속된 같은 dayId끼리 묶음
+        List<TimelineDto.TripDayTimelineResponse> dayResponses = new ArrayList<>();
+        int from = 0;
+        while (from < rows.size()) {
+            TimelineRow day = rows.get(from);
+            List<TimelineDto.TimelineItemResponse> items = new ArrayList<>();
+
+            int to = from;
+            while (to < rows.size() && rows.get(to).dayId().equals(day.dayId())) {
+                TimelineRow row = rows.get(to++);
+                if (row.timelineId() != null) {
+                    items.add(new TimelineDto.TimelineItemResponse(
+                            row.timelineId(),
+                            row.startTime(),
+                            row.endTime(),
+                            row.placeId(),
+                            row.placeName()
+                    ));
+                }
+            }
 
-        Map<Long, String> placeNameMap = new HashMap<>();
-        if (!placeIds.isEmpty()) {
-            List<Place> places = placeRepository.findByIdInAndTrip_Id(placeIds, tripId);
-            placeNameMap = places.stream()
-                    .collect(Collectors.toMap(Place::getId, Place::getName, (a, b) -> a));
-        }
-
-        Map<Long, List<TimelineDto.TimelineItemResponse>> itemsByDayId = new HashMap<>();
-        for (TimelineItem item : items) {
-            Long dayId = item.getDay().getId();
-            Long placeId = item.getPlace().getId();
-            String placeName = placeNameMap.get(placeId);
-
-            TimelineDto.TimelineItemResponse response = new TimelineDto.TimelineItemResponse(
-                    item.getId(),
-                    item.getStartTime(),
-                    item.getEndTime(),
-                    placeId,
-                    placeName
-            );
-            itemsByDayId.computeIfAbsent(dayId, k -> new ArrayList<>()).add(response);
-        }
-
-        List<TimelineDto.TripDayTimelineResponse> dayResponses = days.stream()
-                .map(day -> new TimelineDto.TripDayTimelineResponse(
-                        day.getId(),
-                        day.getDayDate(),
-                        day.getDayIndex(),
-                        day.getThemeTitle(),
-                        day.getDayNote(),
-                        day.getBudgetPlanned(),
-                        day.getBudgetSpent(),
-                        itemsByDayId.getOrDefault(day.getId(), List.of())
-                ))
-                .toList();
+            dayResponses.add(new TimelineDto.TripDayTimelineResponse(
+                    day.dayId(),
+                    day.dayDate(),
+                    day.dayIndex(),
+                    day.themeTitle(),
+                    day.dayNote(),
+                    day.budgetPlanned(),
+                    day.budgetSpent(),
+                    items
+            ));
+            from = to;
+        }
 
         return new TimelineDto.TimelineListResponse(dayResponses);
     }
 
-    @Transactional
+    // 같은 날짜 쓰기는 날짜별 락으로 직렬화 (트랜잭션은 락 안에서 시작/종료)
     public Long addTimelineItem(Long tripId, TimelineDto.TimelineItemCreateRequest request, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-
         if (request == null) throw new IllegalArgumentException("request is required");
         if (request.dayDate() == null) throw new IllegalArgumentException("dayDate is required");
         if (request.startTime() == null || request.endTime() == null) {
@@ -105,37 +115,168 @@ public class TimelineService {
         }
         if (request.placeId() == null) throw new IllegalArgumentException("placeId is required");
 
-        TripDay day = tripDayRepository.findByTrip_IdAndDayDate(tripId, request.dayDate())
-                .orElseThrow(() -> new IllegalArgumentException("day not found"));
+        return timelineWriteCoordinator.execute(tripId, List.of(request.dayDate()), () -> {
+            tripAuthorizationService.verifyOwner(tripId, userId);
+
+            TripDay day = tripDayRepository.findByTrip_IdAndDayDate(tripId, request.dayDate())
+                    .orElseThrow(() -> new IllegalArgumentException("day not found"));
+
+            Place place = placeRepository.findByIdAndTrip_Id(request.placeId(), tripId)
+                    .orElseThrow(() -> new IllegalArgumentException("place not found"));
+
+            // 겹침 검사(메모리 인덱스) + 날짜 버전 선점(동시 수정 시 409)
+            long version = timelineOverlapGuard.reserve(day, request.startTime(), request.endTime(), null);
 
-        boolean overlapped = timelineItemRepository
-                .existsByDay_IdAndStartTimeLessThanAndEndTimeGreaterThan(
-                        day.getId(), request.endTime(), request.startTime());
-        if (overlapped) {
-            throw new IllegalArgumentException("time overlap exists");
+            TimelineItem item = TimelineItem.create(day, request.startTime(), request.endTime(), place);
+            TimelineItem saved = timelineItemRepository.save(item);
+            timelineOverlapGuard.putAfterCommit(day.getId(), version, saved.getId(), request.startTime(), request.endTime());
+            timelineCache.invalidate(tripId);
+            return saved.getId();
+        });
+    }
+
+    /**
+     * 여러 일정을 한 번에 저장 (timelineId 있으면 수정, 없으면 추가)
+     * 조회 3회(날짜, 장소 id, 기존 아이템 배치)로 검증과 겹침 검사를 메모리에서 끝내고, 쓰기는 JDBC 배치로 실행
+     */
+    public List<Long> upsertTimelineItems(Long tripId, TimelineDto.TimelineBulkUpsertRequest request, String userId) {
+        if (request == null || request.items() == null || request.items().isEmpty()) {
+            throw new IllegalArgumentException("items is required");
+        }
+        List<TimelineDto.TimelineBulkItem> items = request.items();
+        if (items.size() > MAX_BULK_ITEMS) {
+            throw new IllegalArgumentException("items는 최대 " + MAX_BULK_ITEMS + "개까지 저장할 수 있습니다.");
         }
+        items.forEach(this::validateBulkItem);
+
+        Set<LocalDate> dayDates = items.stream()
+                .map(TimelineDto.TimelineBulkItem::dayDate)
+                .collect(Collectors.toSet());
+
+        return timelineWriteCoordinator.execute(tripId, dayDates, () -> {
+            tripAuthorizationService.verifyOwner(tripId, userId);
+
+            Map<LocalDate, TripDay> dayByDate = tripDayRepository.findByTrip_IdOrderByDayDateAsc(tripId).stream()
+                    .collect(Collectors.toMap(TripDay::getDayDate, Function.identity()));
+
+            Set<Long> placeIds = items.stream()
+                    .map(TimelineDto.TimelineBulkItem::placeId)
+                    .collect(Collectors.toSet());
+            if (placeRepository.findIdsByTripIdAndIdIn(tripId, placeIds).size() != placeIds.size()) {
+                throw new IllegalArgumentException("place not found");
+            }
+
+            Map<Long, TimelineItemSlot> existing = timelineItemRepository.findSlotsByTripId(tripId).stream()
+                    .collect(Collectors.toMap(TimelineItemSlot::itemId, Function.identity()));
+
+            // 저장 후의 최종 배치 (새 아이템은 임시 음수 id)
+            Map<Long, TimelineItemSlot> finalSlots = new HashMap<>(existing);
+            Map<Long, TripDay> touchedDays = new TreeMap<>();   // 아이템이 추가/변경되는 날짜 (id 순: 락 순서 고정)
+            Set<Long> releasedDayIds = new HashSet<>();         // 아이템이 다른 날짜로 빠져나가기만 하는 날짜
+            Set<Long> seenIds = new HashSet<>();
+            List<TimelineItemJdbcRepository.Row> inserts = new ArrayList<>();
+            List<TimelineItemJdbcRepository.Row> updates = new ArrayList<>();
+            long tempId = -1;
+
+            for (TimelineDto.TimelineBulkItem item : items) {
+                TripDay day = dayByDate.get(item.dayDate());
+                if (day == null) throw new IllegalArgumentException("day not found: " + item.dayDate());
+                touchedDays.put(day.getId(), day);
+
+                TimelineItemJdbcRepository.Row row = new TimelineItemJdbcRepository.Row(
+                        item.timelineId(), day.getId(), item.placeId(), item.startTime(), item.endTime());
+
+                if (item.timelineId() == null) {
+                    finalSlots.put(tempId, new TimelineItemSlot(tempId, day.getId(), item.startTime(), item.endTime()));
+                    tempId--;
+                    inserts.add(row);
+                    continue;
+                }
+
+                if (!seenIds.add(item.timelineId())) {
+                    throw new IllegalArgumentException("duplicate timelineId: " + item.timelineId());
+                }
+                TimelineItemSlot current = existing.get(item.timelineId());
+                if (current == null) {
+                    throw new IllegalArgumentException("timeline item not found: " + item.timelineId());
+                }
+                if (!current.dayId().equals(day.getId())) {
+                    releasedDayIds.add(current.dayId());
+                }
+                finalSlots.put(item.timelineId(),
+                        new TimelineItemSlot(item.timelineId(), day.getId(), item.startTime(), item.endTime()));
+                updates.add(row);
+            }
+
+            checkOverlaps(finalSlots.values(), touchedDays.keySet());
 
-        Place place = placeRepository.findByIdAndTrip_Id(request.placeId(), tripId)
-                .orElseThrow(() -> new IllegalArgumentException("place not found"));
+            // 대상 날짜 버전 선점 (동시 수정 시 409), 아이템이 빠지기만 한 날짜는 캐시만 비움
+            timelineOverlapGuard.reserveAll(touchedDays.values());
+            releasedDayIds.removeAll(touchedDays.keySet());
+            releasedDayIds.forEach(timelineOverlapGuard::release);
 
-        TimelineItem item = TimelineItem.create(day, request.startTime(), request.endTime(), place);
-        TimelineItem saved = timelineItemRepository.save(item);
-        return saved.getId();
+            List<Long> insertedIds = timelineItemJdbcRepository.insertAll(inserts);
+            timelineItemJdbcRepository.updateAll(updates);
+            timelineCache.invalidate(tripId);
+
+            // 요청 순서대로 id 반환
+            List<Long> timelineIds = new ArrayList<>(items.size());
+            int insertIndex = 0;
+            for (TimelineDto.TimelineBulkItem item : items) {
+                timelineIds.add(item.timelineId() != null ? item.timelineId() : insertedIds.get(insertIndex++));
+            }
+            return timelineIds;
+        });
     }
 
+    private void validateBulkItem(TimelineDto.TimelineBulkItem item) {
+        if (item == null) throw new IllegalArgumentException("item is required");
+        if (item.dayDate() == null) throw new IllegalArgumentException("dayDate is required");
+        if (item.startTime() == null || item.endTime() == null) {
+            throw new IllegalArgumentException("startTime/endTime is required");
+        }
+        if (!item.startTime().isBefore(item.endTime())) {
+            throw new IllegalArgumentException("startTime must be before endTime");
+        }
+        if (item.placeId() == null) throw new IllegalArgumentException("placeId is required");
+    }
+
+    // 날짜별로 시작 시간 정렬 후 인접한 두 일정만 비교 (끝=다음 시작은 허용)
+    private void checkOverlaps(Collection<TimelineItemSlot> slots, Set<Long> dayIds) {
+        Map<Long, List<TimelineItemSlot>> slotsByDay = slots.stream()
+                .filter(slot -> dayIds.contains(slot.dayId()))
+                .collect(Collectors.groupingBy(TimelineItemSlot::dayId));
+
+        for (List<TimelineItemSlot> daySlots : slotsByDay.values()) {
+            daySlots.sort(Comparator.comparing(TimelineItemSlot::startTime));
+            for (int i = 1; i < daySlots.size(); i++) {
+                if (daySlots.get(i - 1).endTime().isAfter(daySlots.get(i).startTime())) {
+                    throw new IllegalArgumentException("time overlap exists");
+                }
+            }
+        }
+    }
+
+    // 조회 1회 + 소유자 조건 DELETE 1회
+    // MySQL DELETE는 지운 행의 값을 돌려주지 못하므로(RETURNING 없음), 캐시 무효화에 필요한 dayId/tripId와
+    // 403/404 구분을 위해 먼저 조회한다
     @Transactional
     public void deleteTimelineItem(Long timelineItemId, String userId) {
-        TimelineItem item = timelineItemRepository.findById(timelineItemId)
+        TimelineItemOwner owner = timelineItemRepository.findOwnerById(timelineItemId)
                 .orElseThrow(() -> new IllegalArgumentException("timeline item not found"));
+        tripAuthorizationService.checkOwner(owner.ownerUserId(), userId);
 
-        Long tripId = item.getDay().getTrip().getId();
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-        timelineItemRepository.delete(item);
+        // 조회와 삭제 사이에 다른 요청이 먼저 지운 경우 0건 (없는 일정과 구분해 409)
+        if (timelineItemRepository.deleteByIdAndOwner(timelineItemId, userId) == 0) {
+            throw new ConflictException("일정이 동시에 삭제되었습니다.");
+        }
+        timelineOverlapGuard.release(owner.dayId());
+        timelineCache.invalidate(owner.tripId());
     }
 
     @Transactional
     public void updateTripDays(Long tripId, TripDayBulkUpdateRequest request, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
+        tripAuthorizationService.verifyOwner(tripId, userId);
 
         if (request == null || request.getDays() == null || request.getDays().isEmpty()) {
             throw new IllegalArgumentException("days is required");
@@ -150,27 +291,35 @@ public class TimelineService {
             throw new IllegalArgumentException("dayId is required for all items");
         }
 
-        List<TripDay> found = tripDayRepository.findAllByTrip_IdAndIdIn(tripId, dayIds);
-        Map<Long, TripDay> dayMap = found.stream()
-                .collect(Collectors.toMap(TripDay::getId, Function.identity()));
+        Map<Long, TripDayContent> current = tripDayRepository.findContentsByTripIdAndIdIn(tripId, dayIds).stream()
+                .collect(Collectors.toMap(TripDayContent::dayId, Function.identity()));
 
+        // 같은 dayId가 여러 번 오면 마지막 값 사용
+        Map<Long, TripDayContent> requested = new LinkedHashMap<>();
         for (TripDayBulkUpdateRequest.TripDayUpdateItem item : request.getDays()) {
-            TripDay day = dayMap.get(item.getDayId());
-            if (day == null) {
+            if (!current.containsKey(item.getDayId())) {
                 throw new NotFoundException("TripDay not found: " + item.getDayId());
             }
 
-            day.setThemeTitle(item.getThemeTitle());
-            day.setDayNote(item.getDayNote());
-            day.setBudgetPlanned(item.getBudgetPlanned());
-            day.setBudgetSpent(item.getBudgetSpent());
+            requested.put(item.getDayId(), new TripDayContent(
+                    item.getDayId(),
+                    item.getThemeTitle(),
+                    item.getDayNote(),
+                    item.getBudgetPlanned(),
+                    item.getBudgetSpent()
+            ));
         }
+
+        // 바뀐 컬럼만 JDBC 배치로 UPDATE (변경이 없으면 쿼리 없음)
+        if (tripDayJdbcRepository.updateChangedColumns(current, List.copyOf(requested.values())) == 0) {
+            return;
+        }
+        timelineCache.invalidate(tripId);
     }
 
-    @Transactional
+    // 대상 날짜 기준으로 락 (원래 날짜에서 빠지는 쪽은 겹침이 생기지 않으므로 락 불필요)
     public void updateTimelineItem(Long tripId, Long timelineId, TimelineItemUpdateRequest request, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-
+        if (request == null) throw new IllegalArgumentException("request is required");
         if (request.dayDate() == null) throw new IllegalArgumentException("dayDate is required");
         if (request.startTime() == null || request.endTime() == null) {
             throw new IllegalArgumentException("startTime/endTime is required");
@@ -180,30 +329,30 @@ public class TimelineService {
         }
         if (request.placeId() == null) throw new IllegalArgumentException("placeId is required");
 
-        TimelineItem item = timelineItemRepository.findById(timelineId)
-                .orElseThrow(() -> new IllegalArgumentException("timeline item not found"));
-
-        Long itemTripId = item.getDay().getTrip().getId();
-        if (!itemTripId.equals(tripId)) {
-            throw new IllegalArgumentException("trip mismatch");
-        }
+        timelineWriteCoordinator.executeWithoutResult(tripId, List.of(request.dayDate()), () -> {
+            TimelineItemOwner owner = timelineItemRepository.findOwnerById(timelineId)
+                    .orElseThrow(() -> new IllegalArgumentException("timeline item not found"));
+            tripAuthorizationService.checkOwner(owner.ownerUserId(), userId);
+            if (!owner.tripId().equals(tripId)) {
+                throw new IllegalArgumentException("trip mismatch");
+            }
 
-        TripDay targetDay = tripDayRepository.findByTrip_IdAndDayDate(tripId, request.dayDate())
-                .orElseThrow(() -> new IllegalArgumentException("day not found"));
+            TripDay targetDay = tripDayRepository.findByTrip_IdAndDayDate(tripId, request.dayDate())
+                    .orElseThrow(() -> new IllegalArgumentException("day not found"));
 
-        boolean overlapped = timelineItemRepository
-                .existsByDay_IdAndIdNotAndStartTimeLessThanAndEndTimeGreaterThan(
-                        targetDay.getId(), timelineId, request.endTime(), request.startTime());
-        if (overlapped) {
-            throw new IllegalArgumentException("time overlap exists");
-        }
+            if (!placeRepository.existsByIdAndTrip_Id(request.placeId(), tripId)) {
+                throw new IllegalArgumentException("place not found");
+            }
 
-        Place place = placeRepository.findByIdAndTrip_Id(request.placeId(), tripId)
-                .orElseThrow(() -> new IllegalArgumentException("place not found"));
+            long version = timelineOverlapGuard.reserve(targetDay, request.startTime(), request.endTime(), timelineId);
+            if (!owner.dayId().equals(targetDay.getId())) {
+                timelineOverlapGuard.release(owner.dayId()); // 다른 날짜로 이동: 원래 날짜에서 빠짐
+            }
 
-        item.setDay(targetDay);
-        item.setStartTime(request.startTime());
-        item.setEndTime(request.endTime());
-        item.setPlace(place);
+            timelineItemRepository.updateSchedule(timelineId, targetDay, placeRepository.getReferenceById(request.placeId()),
+                    request.startTime(), request.endTime(), LocalDateTime.now());
+            timelineOverlapGuard.putAfterCommit(targetDay.getId(), version, timelineId, request.startTime(), request.endTime());
+            timelineCache.invalidate(tripId);
+        });
     }
 }
@@ -0,0 +1,85 @@
+package trip.diary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.global.exception.ConflictException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 타임라인 쓰기 동시성 제어
+ * - 같은 서버 안: (tripId, 날짜)를 해시한 스트라이프 락으로 같은 날짜 쓰기를 직렬화 (다른 날짜는 병렬)
+ * - 서버 간: TripDay.itemsVersion 조건부 증가가 충돌을 감지(ConflictException)하면 새 트랜잭션으로 재시도
+ * 락은 트랜잭션 시작 전에 잡고 커밋 후에 풀어서, 다음 요청이 항상 커밋된 결과를 보고 검사하도록 한다.
+ */
+@Slf4j
+@Component
+public class TimelineWriteCoordinator {
+
+    private final TransactionTemplate transactionTemplate;
+    private final ReentrantLock[] stripes;
+    private final int maxAttempts;
+
+    public TimelineWriteCoordinator(TransactionTemplate transactionTemplate,
+                                    @Value("${timeline.write.lock-stripes:64}") int stripeCount,
+                                    @Value("${timeline.write.max-attempts:3}") int maxAttempts) {
+        this.transactionTemplate = transactionTemplate;
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.maxAttempts = maxAttempts;
+    }
+
+    /**
+     * 날짜별 락을 잡고 work를 트랜잭션으로 실행 (버전 충돌 시 재시도)
+     */
+    public <T> T execute(Long tripId, Collection<LocalDate> dayDates, Supplier<T> work) {
+        List<ReentrantLock> locks = locksFor(tripId, dayDates);
+        locks.forEach(ReentrantLock::lock);
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionTemplate.execute(status -> work.get());
+                } catch (ConflictException e) {
+                    if (attempt >= maxAttempts) throw e;
+                    log.info("타임라인 버전 충돌로 재시도 (tripId={}, attempt={})", tripId, attempt);
+                }
+            }
+        } finally {
+            for (int i = locks.size() - 1; i >= 0; i--) {
+                locks.get(i).unlock();
+            }
+        }
+    }
+
+    public void executeWithoutResult(Long tripId, Collection<LocalDate> dayDates, Runnable work) {
+        execute(tripId, dayDates, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // 여러 날짜를 잡을 때는 스트라이프 번호 순으로 잡아 교착 상태 방지
+    private List<ReentrantLock> locksFor(Long tripId, Collection<LocalDate> dayDates) {
+        return dayDates.stream()
+                .mapToInt(date -> stripeIndex(tripId, date))
+                .distinct()
+                .sorted()
+                .mapToObj(index -> stripes[index])
+                .toList();
+    }
+
+    private int stripeIndex(Long tripId, LocalDate dayDate) {
+        int hash = Objects.hash(tripId, dayDate);
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, stripes.length);
+    }
+}
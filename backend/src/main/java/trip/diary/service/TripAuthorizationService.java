@@ -13,13 +13,27 @@ public class TripAuthorizationService {
 
     private final TripRepository tripRepository;
 
+    // Trip 엔티티가 필요한 경우 (여행 + 소유자 fetch join, 쿼리 1회)
     public Trip getAuthorizedTrip(Long tripId, String userId) {
-        Trip trip = tripRepository.findById(tripId)
+        Trip trip = tripRepository.findWithUserById(tripId)
                 .orElseThrow(() -> new NotFoundException("trip not found"));
 
-        if (!trip.getUser().getUserId().equals(userId)) {
+        checkOwner(trip.getUser().getUserId(), userId);
+        return trip;
+    }
+
+    // 권한 확인만 필요한 경우 (Trip 엔티티를 로딩하지 않음, 쿼리 1회)
+    public void verifyOwner(Long tripId, String userId) {
+        String ownerUserId = tripRepository.findOwnerUserIdById(tripId)
+                .orElseThrow(() -> new NotFoundException("trip not found"));
+
+        checkOwner(ownerUserId, userId);
+    }
+
+    // 소유자 아이디를 다른 조회에서 함께 가져온 경우 (추가 쿼리 없음)
+    void checkOwner(String ownerUserId, String userId) {
+        if (!ownerUserId.equals(userId)) {
             throw new ForbiddenException("권한이 없습니다.");
         }
-        return trip;
     }
 }
@@ -0,0 +1,42 @@
+package trip.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import trip.diary.repository.ImageDeletionRepository;
+import trip.diary.repository.PlacePhotoRepository;
+import trip.diary.repository.PlaceRepository;
+import trip.diary.repository.TimelineItemRepository;
+import trip.diary.repository.TripDayRepository;
+import trip.diary.repository.TripRepository;
+
+/**
+ * 여행과 하위 데이터 삭제
+ * 엔티티를 불러와 하나씩 지우지 않고, 자식 테이블부터 여행 단위 DELETE 5개로 끝낸다 (행 수와 무관).
+ * 업로드 이미지는 행을 지우기 전에 같은 트랜잭션에서 삭제 대기열(image_deletions)에 INSERT ... SELECT로 옮긴다.
+ * 권한 확인은 호출하는 쪽에서 수행
+ */
+@Service
+@RequiredArgsConstructor
+public class TripDeletionService {
+
+    private final TimelineItemRepository timelineItemRepository;
+    private final PlacePhotoRepository placePhotoRepository;
+    private final PlaceRepository placeRepository;
+    private final TripDayRepository tripDayRepository;
+    private final TripRepository tripRepository;
+    private final ImageDeletionRepository imageDeletionRepository;
+
+    @Transactional
+    public void deleteTrip(Long tripId) {
+        imageDeletionRepository.enqueuePhotosOfTrip(tripId);
+        imageDeletionRepository.enqueueTripImage(tripId);
+
+        // FK 순서: 일정(day, place 참조) -> 사진(place 참조) -> 장소 -> 날짜 -> 여행
+        timelineItemRepository.deleteAllByTripId(tripId);
+        placePhotoRepository.deleteAllByTripId(tripId);
+        placeRepository.deleteAllByTripId(tripId);
+        tripDayRepository.deleteAllByTripId(tripId);
+        tripRepository.deleteTripById(tripId);
+    }
+}
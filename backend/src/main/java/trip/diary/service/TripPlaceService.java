@@ -1,23 +1,37 @@
 package trip.diary.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 import trip.diary.dto.PlaceDetailResponse;
+import trip.diary.dto.PlaceDetailRow;
 import trip.diary.dto.PlaceListResponse;
+import trip.diary.dto.PlacePageResponse;
+import trip.diary.dto.PlacePhotoPatchRequest;
+import trip.diary.dto.PlacePhotoResponse;
 import trip.diary.dto.PlaceRequest;
+import trip.diary.entity.ImageDeletion;
 import trip.diary.entity.Place;
 import trip.diary.entity.PlacePhoto;
 import trip.diary.entity.Trip;
 import trip.diary.global.exception.NotFoundException;
 import trip.diary.global.image.ImageStorageService;
+import trip.diary.global.image.UploadResult;
+import trip.diary.repository.ImageDeletionRepository;
 import trip.diary.repository.PlacePhotoRepository;
 import trip.diary.repository.PlaceRepository;
 import trip.diary.repository.TimelineItemRepository;
+import trip.diary.repository.TripRepository;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +43,14 @@ public class TripPlaceService {
     private final TimelineItemRepository timelineItemRepository;
     private final ImageStorageService imageStorageService;
     private final TripAuthorizationService tripAuthorizationService;
+    private final TripRepository tripRepository;
+    private final UploadTransactionTemplate uploadTransactionTemplate;
+    private final UploadService uploadService;
+    private final TimelineCache timelineCache;
+    private final ImageDeletionRepository imageDeletionRepository;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     private static final String DEFAULT_PLACE_IMAGE_URL = "https://res.cloudinary.com/dxlycqpyp/image/upload/v1771146721/KakaoTalk_20260215_125901244_nzvsch.png";
 
@@ -41,65 +63,74 @@ public class TripPlaceService {
             "카페/디저트", "https://res.cloudinary.com/dxlycqpyp/image/upload/v1771146720/KakaoTalk_20260215_125850088_05_gy3bvu.png"
     );
 
-    public List<PlaceListResponse> getPlaces(Long tripId, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
+    // 장소 목록 (place_id 순, 커서 기반 페이지, 카테고리 필터)
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    public PlacePageResponse getPlaces(Long tripId, String category, Long cursor, Integer size, String userId) {
+        tripAuthorizationService.verifyOwner(tripId, userId);
+        int pageSize = resolvePageSize(size);
 
-        List<Place> places = placeRepository.findByTrip_Id(tripId);
-        if (places.isEmpty()) return List.of();
+        String categoryFilter = (category == null || category.isBlank()) ? null : category.trim();
+        List<PlaceListResponse> places = placeRepository.findPlacePage(
+                tripId, categoryFilter, cursor, PageRequest.of(0, pageSize + 1));
 
-        List<Long> placeIds = places.stream()
-                .map(Place::getId)
-                .toList();
+        boolean hasNext = places.size() > pageSize;
+        List<PlaceListResponse> page = hasNext ? places.subList(0, pageSize) : places;
+        Long nextCursor = hasNext ? page.get(page.size() - 1).placeId() : null;
 
-        Map<Long, String> coverMap = placePhotoRepository.findByPlace_IdInAndIsCoverTrue(placeIds).stream()
-                .collect(Collectors.toMap(pp -> pp.getPlace().getId(), PlacePhoto::getImageUrl, (a, b) -> a));
+        return new PlacePageResponse(page, nextCursor, hasNext);
+    }
 
-        return places.stream()
-                .map(p -> new PlaceListResponse(
-                        p.getId(),
-                        p.getTripId(),
-                        p.getName(),
-                        p.getDescription(),
-                        p.getCategory(),
-                        coverMap.get(p.getId()),
-                        p.getCreatedAt(),
-                        p.getUpdatedAt()
-                ))
-                .toList();
+    private int resolvePageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
     }
 
+    // 권한 확인, 장소, 사진 목록을 쿼리 1회로 조회 (대표 사진은 목록에서 계산)
     public PlaceDetailResponse getPlace(Long tripId, Long placeId, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
+        List<PlaceDetailRow> rows = placeRepository.findDetailRows(tripId, placeId);
+        if (rows.isEmpty()) {
+            // 존재하지 않는 여행/권한 없는 여행이면 404/403, 여행은 맞는데 장소가 없으면 404
+            tripAuthorizationService.verifyOwner(tripId, userId);
+            throw new NotFoundException("place not found");
+        }
 
-        Place place = placeRepository.findByIdAndTrip_Id(placeId, tripId)
-                .orElseThrow(() -> new NotFoundException("place not found"));
+        PlaceDetailRow place = rows.get(0);
+        tripAuthorizationService.checkOwner(place.ownerUserId(), userId);
 
-        String coverImageUrl = placePhotoRepository
-                .findByPlace_IdAndIsCoverTrue(place.getId())
-                .map(PlacePhoto::getImageUrl)
-                .orElse(null);
+        String coverImageUrl = null;
+        List<String> imageUrls = new ArrayList<>(rows.size());
+        List<PlacePhotoResponse> photos = new ArrayList<>(rows.size());
+        for (PlaceDetailRow row : rows) {
+            if (row.photoId() == null) continue;
 
-        List<String> imageUrls = placePhotoRepository.findByPlace_Id(place.getId())
-                .stream()
-                .map(PlacePhoto::getImageUrl)
-                .toList();
+            boolean isCover = Boolean.TRUE.equals(row.isCover());
+            imageUrls.add(row.imageUrl());
+            photos.add(new PlacePhotoResponse(row.photoId(), row.imageUrl(), isCover));
+            if (coverImageUrl == null && isCover) {
+                coverImageUrl = row.imageUrl();
+            }
+        }
 
         return new PlaceDetailResponse(
-                place.getId(),
-                place.getTripId(),
-                place.getName(),
-                place.getDescription(),
-                place.getCategory(),
+                place.placeId(),
+                place.tripId(),
+                place.name(),
+                place.description(),
+                place.category(),
                 coverImageUrl,
                 imageUrls,
-                place.getCreatedAt(),
-                place.getUpdatedAt()
+                photos,
+                place.createdAt(),
+                place.updatedAt()
         );
     }
 
-    @Transactional
+    // 이미지 업로드(외부 HTTP)는 트랜잭션 밖에서 먼저 끝내고, DB 작업만 짧은 트랜잭션으로 처리
     public Long createPlace(Long tripId, PlaceRequest request, List<MultipartFile> images, String userId) {
-        Trip trip = tripAuthorizationService.getAuthorizedTrip(tripId, userId);
+        tripAuthorizationService.verifyOwner(tripId, userId);
 
         if (request == null) {
             throw new IllegalArgumentException("요청이 비어있습니다");
@@ -107,102 +138,307 @@ public class TripPlaceService {
         if (request.name() == null) {
             throw new IllegalArgumentException("필수 입력칸이 비어있습니다");
         }
+        validateSingleImageInput(images, request.imageTokens());
+
+        List<UploadResult> uploadedImages = imageStorageService.uploadAll(images);
+
+        // 트랜잭션이 실패하면 올린 이미지는 삭제 대기열로
+        return uploadTransactionTemplate.execute(uploadedImages, () -> {
+            // 업로드 토큰으로 받은 경우 이미 저장된 URL만 연결
+            List<UploadResult> uploads = hasTokens(request.imageTokens())
+                    ? uploadService.consumeAll(request.imageTokens(), userId)
+                    : uploadedImages;
+
+            Trip trip = tripRepository.getReferenceById(tripId);
+            Place place = Place.create(trip, request.name(), request.description(), request.category());
+            // 대표 이미지 URL은 INSERT 전에 채워서 사진 저장 후 UPDATE가 한 번 더 나가지 않게 함
+            place.setCoverImageUrl(uploads.isEmpty()
+                    ? defaultCoverImageUrl(place.getCategory())
+                    : coverImageUrl(uploads, request.coverIndex()));
+            Place savedPlace = placeRepository.save(place);
+
+            if (!uploads.isEmpty()) {
+                savePhotos(savedPlace, uploads, request.coverIndex());
+            } else {
+                saveDefaultCoverPhoto(savedPlace);
+            }
 
-        Place place = Place.create(trip, request.name(), request.description(), request.category());
-        Place savedPlace = placeRepository.save(place);
-
-        if (images != null && !images.isEmpty()) {
-            savePhotos(savedPlace, images, request.coverIndex());
-        } else {
-            saveDefaultCoverPhoto(savedPlace);
-        }
-
-        return savedPlace.getId();
+            return savedPlace.getId();
+        });
     }
 
-    @Transactional
     public void updatePlace(Long tripId, Long placeId, PlaceRequest request, List<MultipartFile> images, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-
-        Place place = placeRepository.findByIdAndTrip_Id(placeId, tripId)
-                .orElseThrow(() -> new NotFoundException("place not found"));
+        tripAuthorizationService.verifyOwner(tripId, userId);
 
         if (request == null) {
             throw new IllegalArgumentException("요청이 비어있습니다");
         }
+        validateSingleImageInput(images, request.imageTokens());
+        // 없는 장소면 업로드 전에 404 (업로드한 이미지가 연결되지 않고 남지 않도록)
+        if (!placeRepository.existsByIdAndTrip_Id(placeId, tripId)) {
+            throw new NotFoundException("place not found");
+        }
 
-        if (request.name() != null) {
-            place.setName(request.name());
+        List<UploadResult> uploadedImages = imageStorageService.uploadAll(images);
+
+        uploadTransactionTemplate.executeWithoutResult(uploadedImages, () -> {
+            Place place = placeRepository.findByIdAndTrip_Id(placeId, tripId)
+                    .orElseThrow(() -> new NotFoundException("place not found"));
+
+            if (request.name() != null) {
+                place.setName(request.name());
+                timelineCache.invalidate(tripId); // 타임라인에 장소명이 포함됨
+            }
+            if (request.description() != null) {
+                place.setDescription(request.description());
+            }
+            if (request.category() != null) {
+                place.setCategory(request.category());
+            }
+
+            // images 또는 imageTokens가 오면 사진 전체 교체
+            if (images != null || request.imageTokens() != null) {
+                List<UploadResult> uploads = hasTokens(request.imageTokens())
+                        ? uploadService.consumeAll(request.imageTokens(), userId)
+                        : uploadedImages;
+
+                // 기존 업로드 이미지는 행을 지우기 전에 삭제 대기열로
+                imageDeletionRepository.enqueuePhotosOfPlace(placeId);
+                placePhotoRepository.deleteByPlace_Id(placeId);
+
+                if (!uploads.isEmpty()) {
+                    savePhotos(place, uploads, request.coverIndex());
+                } else {
+                    saveDefaultCoverPhoto(place);
+                }
+            }
+        });
+    }
+
+    /**
+     * 사진 부분 수정: 기존 사진 id는 유지하고, 새 파일만 추가 / 지정한 id만 삭제 / 대표 플래그만 이동
+     * 장소에 이미 있는 것과 같은 바이트(SHA-256)의 새 파일은 업로드하지 않고 기존 사진을 사용한다.
+     */
+    public PlaceDetailResponse updatePhotos(Long tripId, Long placeId, PlacePhotoPatchRequest request,
+                                            List<MultipartFile> images, String userId) {
+        tripAuthorizationService.verifyOwner(tripId, userId);
+
+        if (request == null) {
+            throw new IllegalArgumentException("요청이 비어있습니다");
         }
-        if (request.description() != null) {
-            place.setDescription(request.description());
+        if (request.coverPhotoId() != null && request.coverIndex() != null) {
+            throw new IllegalArgumentException("coverPhotoId와 coverIndex는 동시에 보낼 수 없습니다.");
         }
-        if (request.category() != null) {
-            place.setCategory(request.category());
+        validateSingleImageInput(images, request.imageTokens());
+        if (!placeRepository.existsByIdAndTrip_Id(placeId, tripId)) {
+            throw new NotFoundException("place not found");
         }
 
+        Set<Long> removeIds = request.removePhotoIds() == null ? Set.of() : new HashSet<>(request.removePhotoIds());
+
+        // 남길 사진과 같은 해시의 파일, 요청 안에서 중복된 파일은 업로드 생략 (자리는 null)
+        Set<String> keptHashes = placePhotoRepository.findByPlace_IdOrderByIdAsc(placeId).stream()
+                .filter(photo -> photo.getContentHash() != null && !removeIds.contains(photo.getId()))
+                .map(PlacePhoto::getContentHash)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        List<String> fileHashes = new ArrayList<>();
+        List<MultipartFile> filesToUpload = new ArrayList<>();
         if (images != null) {
-            placePhotoRepository.deleteByPlace_Id(placeId);
+            Set<String> seen = new HashSet<>(keptHashes);
+            for (MultipartFile image : images) {
+                String hash = (image == null || image.isEmpty()) ? null : imageStorageService.contentHash(image);
+                fileHashes.add(hash);
+                filesToUpload.add(hash != null && seen.add(hash) ? image : null);
+            }
+        }
+        // 위에서 계산한 해시를 그대로 넘겨 업로드 중 다시 해시하지 않음
+        List<UploadResult> uploadedImages = imageStorageService.uploadAll(filesToUpload, fileHashes);
+
+        uploadTransactionTemplate.executeWithoutResult(uploadedImages, () -> {
+            Place place = placeRepository.findByIdAndTrip_Id(placeId, tripId)
+                    .orElseThrow(() -> new NotFoundException("place not found"));
+
+            List<PlacePhoto> existing = placePhotoRepository.findByPlace_IdOrderByIdAsc(placeId);
+            Map<Long, PlacePhoto> existingById = existing.stream()
+                    .collect(Collectors.toMap(PlacePhoto::getId, Function.identity()));
+            if (!existingById.keySet().containsAll(removeIds)) {
+                throw new NotFoundException("photo not found");
+            }
 
-            if (!images.isEmpty()) {
-                savePhotos(place, images, request.coverIndex());
+            List<PlacePhoto> kept = existing.stream()
+                    .filter(photo -> !removeIds.contains(photo.getId()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            Map<String, PlacePhoto> keptByHash = new HashMap<>();
+            kept.forEach(photo -> {
+                if (photo.getContentHash() != null) keptByHash.putIfAbsent(photo.getContentHash(), photo);
+            });
+
+            // 새 이미지 (요청 순서): 업로드 파일 또는 토큰, 중복이면 기존/앞선 사진을 가리킴
+            List<UploadResult> uploads;
+            List<String> hashes;
+            if (hasTokens(request.imageTokens())) {
+                uploads = uploadService.consumeAll(request.imageTokens(), userId);
+                hashes = uploads.stream().map(UploadResult::getContentHash).toList();
             } else {
+                uploads = uploadedImages;
+                hashes = fileHashes;
+            }
+
+            List<PlacePhoto> slotPhotos = new ArrayList<>(uploads.size());
+            List<PlacePhoto> newPhotos = new ArrayList<>();
+            for (int i = 0; i < uploads.size(); i++) {
+                UploadResult upload = uploads.get(i);
+                String hash = hashes.get(i);
+                PlacePhoto duplicate = hash == null ? null : keptByHash.get(hash);
+
+                if (duplicate != null) {
+                    // 토큰으로 이미 올라간 중복 이미지는 연결하지 않고 정리
+                    if (upload != null && upload.getStorageKey() != null) {
+                        imageDeletionRepository.save(ImageDeletion.create(upload.getStorageKey(), upload.getUrl()));
+                    }
+                    slotPhotos.add(duplicate);
+                } else if (upload != null) {
+                    PlacePhoto photo = PlacePhoto.create(place, upload.getUrl(), upload.getStorageKey(), hash, false);
+                    newPhotos.add(photo);
+                    slotPhotos.add(photo);
+                    if (hash != null) keptByHash.put(hash, photo);
+                } else {
+                    slotPhotos.add(null);
+                }
+            }
+
+            // 실제 사진이 추가되면 카테고리 기본 이미지는 제거
+            Set<Long> deleteIds = new HashSet<>(removeIds);
+            if (!newPhotos.isEmpty()) {
+                kept.removeIf(photo -> {
+                    boolean isDefault = photo.getStorageKey() == null && isDefaultImage(photo.getImageUrl());
+                    if (isDefault) deleteIds.add(photo.getId());
+                    return isDefault;
+                });
+            }
+
+            if (!deleteIds.isEmpty()) {
+                imageDeletionRepository.enqueuePhotos(placeId, deleteIds);
+                placePhotoRepository.deleteByPlaceIdAndIdIn(placeId, deleteIds);
+            }
+            placePhotoRepository.saveAll(newPhotos);
+
+            List<PlacePhoto> remaining = new ArrayList<>(kept);
+            remaining.addAll(newPhotos);
+            if (remaining.isEmpty()) {
                 saveDefaultCoverPhoto(place);
+                return;
+            }
+
+            PlacePhoto cover = resolveCover(request, existingById, kept, slotPhotos, remaining);
+            PlacePhoto currentCover = kept.stream().filter(PlacePhoto::getIsCover).findFirst().orElse(null);
+            if (cover != currentCover) {
+                placePhotoRepository.moveCover(placeId, cover.getId());
             }
+            place.setCoverImageUrl(cover.getImageUrl());
+        });
+
+        return getPlace(tripId, placeId, userId);
+    }
+
+    // 대표 사진: coverPhotoId > coverIndex(새 이미지) > 기존 대표 유지 > 남은 사진 중 첫 번째
+    private PlacePhoto resolveCover(PlacePhotoPatchRequest request, Map<Long, PlacePhoto> existingById,
+                                    List<PlacePhoto> kept, List<PlacePhoto> slotPhotos, List<PlacePhoto> remaining) {
+        if (request.coverPhotoId() != null) {
+            PlacePhoto cover = existingById.get(request.coverPhotoId());
+            if (cover == null || !kept.contains(cover)) {
+                throw new IllegalArgumentException("coverPhotoId가 이 장소에 남아있는 사진이 아닙니다.");
+            }
+            return cover;
         }
+        if (request.coverIndex() != null) {
+            int index = request.coverIndex();
+            if (index < 0 || index >= slotPhotos.size() || slotPhotos.get(index) == null) {
+                throw new IllegalArgumentException("coverIndex가 새 이미지 범위를 벗어났습니다.");
+            }
+            return slotPhotos.get(index);
+        }
+        return kept.stream()
+                .filter(PlacePhoto::getIsCover)
+                .findFirst()
+                .orElse(remaining.get(0));
+    }
+
+    private boolean isDefaultImage(String imageUrl) {
+        return DEFAULT_PLACE_IMAGE_URL.equals(imageUrl) || CATEGORY_DEFAULT_IMAGE_MAP.containsValue(imageUrl);
     }
 
     @Transactional
     public void deletePlace(Long tripId, Long placeId, String userId) {
-        tripAuthorizationService.getAuthorizedTrip(tripId, userId);
+        tripAuthorizationService.verifyOwner(tripId, userId);
 
         Place place = placeRepository.findByIdAndTrip_Id(placeId, tripId)
                 .orElseThrow(() -> new NotFoundException("place not found"));
 
         timelineItemRepository.deleteByPlace_Id(placeId);
+        imageDeletionRepository.enqueuePhotosOfPlace(placeId);
         placePhotoRepository.deleteByPlace_Id(placeId);
         placeRepository.delete(place);
+        timelineCache.invalidate(tripId);
     }
 
-    private void saveDefaultCoverPhoto(Place place) {
-        String category = place.getCategory();
-        String defaultImageUrl;
-
-        if (category == null || category.isBlank()) {
-            defaultImageUrl = DEFAULT_PLACE_IMAGE_URL;
-        } else {
-            defaultImageUrl = CATEGORY_DEFAULT_IMAGE_MAP.getOrDefault(category.trim(), DEFAULT_PLACE_IMAGE_URL);
+    private void validateSingleImageInput(List<MultipartFile> images, List<String> imageTokens) {
+        if (images != null && !images.isEmpty() && hasTokens(imageTokens)) {
+            throw new IllegalArgumentException("images 파일과 imageTokens는 동시에 보낼 수 없습니다.");
         }
+    }
+
+    private boolean hasTokens(List<String> imageTokens) {
+        return imageTokens != null && !imageTokens.isEmpty();
+    }
+
+    private void saveDefaultCoverPhoto(Place place) {
+        String defaultImageUrl = defaultCoverImageUrl(place.getCategory());
 
         PlacePhoto defaultPhoto = PlacePhoto.create(place, defaultImageUrl, true);
         placePhotoRepository.save(defaultPhoto);
+        place.setCoverImageUrl(defaultImageUrl);
     }
 
-    private void savePhotos(Place place, List<MultipartFile> images, Integer coverIndex) {
-        if (images == null || images.isEmpty()) return;
-
-        int cover = (coverIndex == null) ? 0 : coverIndex;
-        if (cover < 0 || cover >= images.size()) cover = 0;
+    private String defaultCoverImageUrl(String category) {
+        if (category == null || category.isBlank()) {
+            return DEFAULT_PLACE_IMAGE_URL;
+        }
+        return CATEGORY_DEFAULT_IMAGE_MAP.getOrDefault(category.trim(), DEFAULT_PLACE_IMAGE_URL);
+    }
 
-        PlacePhoto firstSaved = null;
-        PlacePhoto coverSaved = null;
+    // 업로드가 끝난 결과 목록(요청 순서, 빈 파일 자리는 null)으로 사진을 한 번에 저장
+    private void savePhotos(Place place, List<UploadResult> uploads, Integer coverIndex) {
+        if (uploads == null || uploads.isEmpty()) return;
 
-        for (int i = 0; i < images.size(); i++) {
-            MultipartFile file = images.get(i);
-            if (file == null || file.isEmpty()) continue;
+        int cover = coverSlot(uploads, coverIndex);
 
-            String imageUrl = imageStorageService.upload(file);
-            boolean isCover = (i == cover);
-            PlacePhoto photo = PlacePhoto.create(place, imageUrl, isCover);
-            PlacePhoto saved = placePhotoRepository.save(photo);
+        List<PlacePhoto> photos = new ArrayList<>();
+        for (int i = 0; i < uploads.size(); i++) {
+            UploadResult upload = uploads.get(i);
+            if (upload == null) continue;
 
-            if (firstSaved == null) firstSaved = saved;
-            if (isCover) coverSaved = saved;
+            photos.add(PlacePhoto.create(place, upload.getUrl(), upload.getStorageKey(), upload.getContentHash(), i == cover));
         }
 
-        if (firstSaved != null && coverSaved == null) {
-            firstSaved.setIsCover(true);
-            placePhotoRepository.save(firstSaved);
+        placePhotoRepository.saveAll(photos);
+        place.setCoverImageUrl(coverImageUrl(uploads, coverIndex));
+    }
+
+    private String coverImageUrl(List<UploadResult> uploads, Integer coverIndex) {
+        int cover = coverSlot(uploads, coverIndex);
+        return cover < 0 ? null : uploads.get(cover).getUrl();
+    }
+
+    // 대표 사진 위치: coverIndex 자리, 범위를 벗어나거나 비어있으면 첫 번째 사진 (사진이 없으면 -1)
+    private static int coverSlot(List<UploadResult> uploads, Integer coverIndex) {
+        int cover = (coverIndex == null) ? 0 : coverIndex;
+        if (cover >= 0 && cover < uploads.size() && uploads.get(cover) != null) return cover;
+
+        for (int i = 0; i < uploads.size(); i++) {
+            if (uploads.get(i) != null) return i;
         }
+        return -1;
     }
 }
@@ -1,122 +1,194 @@
 package trip.diary.service;
 
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import trip.diary.dto.*;
+import trip.diary.entity.ImageDeletion;
 import trip.diary.entity.Trip;
-import trip.diary.entity.TripDay;
 import trip.diary.entity.User;
 import trip.diary.global.exception.NotFoundException;
-import trip.diary.repository.PlacePhotoRepository;
-import trip.diary.repository.TimelineItemRepository;
-import trip.diary.repository.TripDayRepository;
+import trip.diary.repository.ImageDeletionRepository;
+import trip.diary.repository.TripDayJdbcRepository;
 import trip.diary.repository.TripRepository;
 import trip.diary.repository.UserRepository;
 import java.time.LocalDate;
-import java.util.ArrayList;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.stream.Collectors;
 import org.springframework.web.multipart.MultipartFile;
 import trip.diary.global.image.ImageStorageService;
+import trip.diary.global.image.UploadResult;
 
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class TripService {
 
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
-    private final TripDayRepository tripDayRepository;
-    private final TimelineItemRepository timelineItemRepository;
-    private final PlacePhotoRepository placePhotoRepository;
     private final ImageStorageService imageStorageService;
     private final TripAuthorizationService tripAuthorizationService;
+    private final UploadService uploadService;
+    private final UploadTransactionTemplate uploadTransactionTemplate;
+    private final TimelineCache timelineCache;
+    private final TripDayJdbcRepository tripDayJdbcRepository;
+    private final TripDeletionService tripDeletionService;
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final int maxTripDays;
 
     private static final String DEFAULT_IMAGE_URL = "https://i.imgur.com/5eDmhnp.jpeg";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    public TripService(TripRepository tripRepository,
+                       UserRepository userRepository,
+                       ImageStorageService imageStorageService,
+                       TripAuthorizationService tripAuthorizationService,
+                       UploadService uploadService,
+                       UploadTransactionTemplate uploadTransactionTemplate,
+                       TimelineCache timelineCache,
+                       TripDayJdbcRepository tripDayJdbcRepository,
+                       TripDeletionService tripDeletionService,
+                       ImageDeletionRepository imageDeletionRepository,
+                       @Value("${trip.max-days:366}") int maxTripDays) {
+        this.tripRepository = tripRepository;
+        this.userRepository = userRepository;
+        this.imageStorageService = imageStorageService;
+        this.tripAuthorizationService = tripAuthorizationService;
+        this.uploadService = uploadService;
+        this.uploadTransactionTemplate = uploadTransactionTemplate;
+        this.timelineCache = timelineCache;
+        this.tripDayJdbcRepository = tripDayJdbcRepository;
+        this.tripDeletionService = tripDeletionService;
+        this.imageDeletionRepository = imageDeletionRepository;
+        this.maxTripDays = maxTripDays;
+    }
 
     // 여행 생성
+    // 이미지 업로드(외부 HTTP)는 트랜잭션 밖에서 먼저 끝내고, DB 작업만 짧은 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Long createTrip(TripCreateRequest request, MultipartFile image, String userId) {
-        // 현재 로그인한 유저 찾기
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
-
         // 날짜 유효성 검사 (종료일 < 시작일)
         if (request.getEndDate().isBefore(request.getStartDate())) {
             throw new IllegalArgumentException("여행 종료일은 시작일보다 빠를 수 없습니다.");
         }
-
-        // 이미지 처리 로직
-        String imageUrl = DEFAULT_IMAGE_URL;
-        if (image != null && !image.isEmpty()) {
-            // 파일을 서버에 저장하고 경로를 받아옴
-            imageUrl = imageStorageService.upload(image);
+        // 여행 기간 상한 (날짜마다 TripDay가 생성되므로)
+        if (ChronoUnit.DAYS.between(request.getStartDate(), request.getEndDate()) + 1 > maxTripDays) {
+            throw new IllegalArgumentException("여행 기간은 최대 " + maxTripDays + "일까지 설정할 수 있습니다.");
         }
 
-        // 여행 상태(Status) 판별
-        // 오늘 날짜가 종료일보다 지났으면 1(다녀온 여행), 아니면 2(새로운/진행중 여행)
-        int status = LocalDate.now().isAfter(request.getEndDate()) ? 1 : 2;
-
-        // Trip 엔티티 생성
-        Trip trip = Trip.builder()
-                .user(user)
-                .title(request.getTitle())
-                .destination(request.getDestination())
-                .isDomestic(request.getIsDomestic())
-                .startDate(request.getStartDate())
-                .endDate(request.getEndDate())
-                .status(status)
-                .imageUrl(imageUrl)
-                .description(request.getDescription()) // note -> description 매핑
-                .build();
-
-        // Trip 먼저 저장해서 trip_id 확보
-        Trip savedTrip = tripRepository.save(trip);
-
-        //여행 기간만큼 TripDay 자동 생성
-        createTripDays(savedTrip);
-
-        return savedTrip.getId();
+        // 이미지 처리 로직 (파일 업로드는 커넥션을 잡기 전에 수행)
+        validateSingleImageInput(image, request.getImageToken());
+        UploadResult uploadedImage = hasFile(image) ? imageStorageService.upload(image) : null;
+
+        return uploadTransactionTemplate.execute(uploadedImage, () -> {
+            // 현재 로그인한 유저 찾기
+            User user = userRepository.findByUserId(userId)
+                    .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
+
+            // 업로드한 파일 > 업로드 토큰 > 기본 이미지 순
+            UploadResult tripImage = uploadedImage;
+            if (tripImage == null && request.getImageToken() != null) {
+                tripImage = uploadService.consume(request.getImageToken(), userId);
+            }
+
+            // 여행 상태(Status) 판별
+            // 오늘 날짜가 종료일보다 지났으면 1(다녀온 여행), 아니면 2(새로운/진행중 여행)
+            int tripStatus = Trip.statusOf(request.getEndDate(), LocalDate.now());
+
+            // Trip 엔티티 생성
+            Trip trip = Trip.builder()
+                    .user(user)
+                    .title(request.getTitle())
+                    .destination(request.getDestination())
+                    .isDomestic(request.getIsDomestic())
+                    .startDate(request.getStartDate())
+                    .endDate(request.getEndDate())
+                    .status(tripStatus)
+                    .imageUrl(tripImage != null ? tripImage.getUrl() : DEFAULT_IMAGE_URL)
+                    .imageStorageKey(tripImage != null ? tripImage.getStorageKey() : null)
+                    .description(request.getDescription()) // note -> description 매핑
+                    .build();
+
+            // Trip 먼저 저장해서 trip_id 확보
+            Trip savedTrip = tripRepository.save(trip);
+
+            //여행 기간만큼 TripDay 자동 생성
+            createTripDays(savedTrip);
+
+            return savedTrip.getId();
+        });
     }
 
+    // 여행 기간만큼 TripDay를 배치 INSERT로 생성 (행마다 INSERT 왕복 없음)
     private void createTripDays(Trip trip) {
+        tripDayJdbcRepository.insertDays(trip.getId(), trip.getStartDate(), trip.getEndDate());
+    }
 
-        LocalDate date = trip.getStartDate();
-        LocalDate end = trip.getEndDate();
-
-        int dayIndex = 1;
-        List<TripDay> days = new ArrayList<>();
-
-        while (!date.isAfter(end)) {
-            TripDay day = TripDay.create(trip, date, dayIndex);
-            days.add(day);
+    // 여행 목록 조회 (시작일 최신순, (start_date, trip_id) 커서 기반 페이지)
+    // status는 조회 쿼리에서 계산하므로 UPDATE 없이 읽기 전용 트랜잭션으로 처리
+    @Transactional(readOnly = true)
+    public TripPageResponse getTrips(String userId, String cursor, Integer size, Integer status) {
+        int pageSize = resolvePageSize(size);
+        if (status != null && status != 1 && status != 2) {
+            throw new IllegalArgumentException("status는 1(다녀온 여행) 또는 2(새로운 여행)만 가능합니다.");
+        }
 
-            date = date.plusDays(1);//날짜 하루 증가
-            dayIndex++;//인덱스 하나 증가
+        // 1. 다음 페이지 존재 여부 확인을 위해 한 건 더 조회 (엔티티 없이 DTO로 바로 조회)
+        LocalDate today = LocalDate.now();
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<TripDto> trips;
+        if (cursor == null || cursor.isBlank()) {
+            trips = tripRepository.findTripPage(userId, status, today, limit);
+        } else {
+            TripCursor tripCursor = TripCursor.parse(cursor);
+            trips = tripRepository.findTripPageAfter(userId, status, today,
+                    tripCursor.startDate(), tripCursor.tripId(), limit);
         }
 
-        tripDayRepository.saveAll(days);
+        // 2. 페이지 크기만큼 잘라서 다음 커서와 함께 반환
+        boolean hasNext = trips.size() > pageSize;
+        List<TripDto> page = hasNext ? trips.subList(0, pageSize) : trips;
+        String nextCursor = hasNext ? TripCursor.of(page.get(page.size() - 1)).encode() : null;
 
+        return TripPageResponse.builder()
+                .trips(page)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
-    // 여행 목록 조회
-    @Transactional
-    public List<TripDto> getTrips(String userId) {
-        User user = userRepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException("존재하지 않는 사용자입니다."));
+    private int resolvePageSize(Integer size) {
+        if (size == null) return DEFAULT_PAGE_SIZE;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        return size;
+    }
+
+    // 목록 커서: 마지막 여행의 "시작일_여행ID" (예: 2024-07-01_15)
+    private record TripCursor(LocalDate startDate, Long tripId) {
 
-        // 1. 유저의 모든 여행 목록 가져오기
-        List<Trip> trips = tripRepository.findAllByUserOrderByStartDateDesc(user);
+        static TripCursor of(TripDto trip) {
+            return new TripCursor(trip.getStartDate(), trip.getTripId());
+        }
 
-        // 2. 가져온 여행들을 하나씩 검사해서 상태 업데이트
-        for (Trip trip : trips) {
-            trip.updateStatus();
+        static TripCursor parse(String cursor) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                return new TripCursor(
+                        LocalDate.parse(cursor.substring(0, separator)),
+                        Long.parseLong(cursor.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("잘못된 커서 값입니다.");
+            }
         }
 
-        // 3. DTO로 변환해서 반환
-        return trips.stream()
-                .map(TripDto::from)
-                .collect(Collectors.toList());
+        String encode() {
+            return startDate + "_" + tripId;
+        }
     }
 
     // 여행 상세 조회
@@ -128,17 +200,14 @@ public class TripService {
     }
 
     // 여행 수정
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TripDetailDto updateTrip(Long tripId, TripUpdateRequest request, MultipartFile image, String userId) {
-        Trip trip = tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-
-        // 이미지 처리 로직
-        String imageUrlToUse = trip.getImageUrl(); // 기본적으로 기존 이미지 유지
+        // 권한 확인 후 업로드 (업로드는 트랜잭션 밖에서)
+        tripAuthorizationService.verifyOwner(tripId, userId);
 
-        if (image != null && !image.isEmpty()) {
-            // 새 파일이 들어왔으면 Cloudinary 업로드 후 URL 교체
-            imageUrlToUse = imageStorageService.upload(image);
-        }
+        validateSingleImageInput(image, request.getImageToken());
+        // 새 파일이 들어왔으면 Cloudinary 업로드
+        UploadResult uploadedImage = hasFile(image) ? imageStorageService.upload(image) : null;
 
         /* 날짜 유효성 검사 로직
         LocalDate startDateToCheck = (request.getStartDate() != null) ? request.getStartDate() : trip.getStartDate();
@@ -148,25 +217,51 @@ public class TripService {
             throw new IllegalArgumentException("여행 종료일은 시작일보다 빠를 수 없습니다.");
         } */
 
-        // 내용 수정 (Entity의 update 메서드 호출)
-        trip.update(
-                request.getTitle(),
-                request.getDestination(),
-                request.getIsDomestic(),
-                imageUrlToUse,
-                request.getDescription()
-        );
+        return uploadTransactionTemplate.execute(uploadedImage, () -> {
+            Trip trip = tripRepository.findById(tripId)
+                    .orElseThrow(() -> new NotFoundException("trip not found"));
+
+            // 이미지 처리 로직 (새 이미지가 없으면 기존 이미지 유지)
+            UploadResult newImage = uploadedImage;
+            if (newImage == null && request.getImageToken() != null) {
+                newImage = uploadService.consume(request.getImageToken(), userId);
+            }
+            if (newImage != null) {
+                // 이전에 업로드한 이미지는 같은 트랜잭션에서 삭제 대기열에 등록
+                if (trip.getImageStorageKey() != null) {
+                    imageDeletionRepository.save(ImageDeletion.create(trip.getImageStorageKey(), trip.getImageUrl()));
+                }
+                trip.changeImage(newImage.getUrl(), newImage.getStorageKey());
+            }
+
+            // 내용 수정 (Entity의 update 메서드 호출)
+            trip.update(
+                    request.getTitle(),
+                    request.getDestination(),
+                    request.getIsDomestic(),
+                    request.getDescription()
+            );
+
+            // 수정된 결과 반환
+            return TripDetailDto.from(trip);
+        });
+    }
 
-        // 수정된 결과 반환
-        return TripDetailDto.from(trip);
+    private void validateSingleImageInput(MultipartFile image, String imageToken) {
+        if (hasFile(image) && imageToken != null) {
+            throw new IllegalArgumentException("image 파일과 imageToken은 동시에 보낼 수 없습니다.");
+        }
+    }
+
+    private boolean hasFile(MultipartFile image) {
+        return image != null && !image.isEmpty();
     }
 
     // 여행 삭제
     @Transactional
     public void deleteTrip(Long tripId, String userId) {
-        Trip trip = tripAuthorizationService.getAuthorizedTrip(tripId, userId);
-        timelineItemRepository.deleteByDay_Trip_Id(tripId);
-        placePhotoRepository.deleteByPlace_Trip_Id(tripId);
-        tripRepository.delete(trip);
+        tripAuthorizationService.verifyOwner(tripId, userId);
+        tripDeletionService.deleteTrip(tripId);
+        timelineCache.evict(tripId);
     }
 }
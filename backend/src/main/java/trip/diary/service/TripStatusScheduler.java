@@ -0,0 +1,30 @@
+package trip.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import trip.diary.repository.TripRepository;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 여행 상태(status) 보정 배치.
+ * 조회 API는 종료일 기준으로 상태를 계산하므로, 이 작업은 DB 값만 하루 한 번 맞춰준다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TripStatusScheduler {
+
+    private final TripRepository tripRepository;
+
+    // 매일 00:05 종료일이 지난 여행을 단일 UPDATE로 '다녀온 여행(1)' 처리
+    @Scheduled(cron = "${trip.status.reconcile-cron:0 5 0 * * *}")
+    @Transactional
+    public void markFinishedTrips() {
+        int updated = tripRepository.markFinishedTrips(LocalDate.now());
+        log.info("다녀온 여행으로 상태 변경: {}건", updated);
+    }
+}
@@ -0,0 +1,62 @@
+package trip.diary.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+import trip.diary.dto.UploadResponse;
+import trip.diary.entity.StagedUpload;
+import trip.diary.global.exception.ForbiddenException;
+import trip.diary.global.exception.NotFoundException;
+import trip.diary.global.image.ImageStorageService;
+import trip.diary.global.image.UploadResult;
+import trip.diary.repository.StagedUploadRepository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 2단계 업로드: 이미지를 먼저 저장소에 올려 토큰을 발급하고,
+ * 여행/장소 API는 토큰으로 이미 저장된 URL만 연결한다 (DB 트랜잭션 안에서 외부 업로드 없음).
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadService {
+
+    private final StagedUploadRepository stagedUploadRepository;
+    private final ImageStorageService imageStorageService;
+    private final UploadTransactionTemplate uploadTransactionTemplate;
+
+    // 업로드는 트랜잭션 밖에서 수행, 토큰 저장만 짧은 트랜잭션 (저장 실패 시 이미지는 삭제 대기열로)
+    public UploadResponse stage(MultipartFile file, String userId) {
+        UploadResult uploaded = imageStorageService.upload(file);
+
+        StagedUpload upload = StagedUpload.create(UUID.randomUUID().toString(), userId,
+                uploaded.getUrl(), uploaded.getStorageKey(), uploaded.getContentHash());
+        uploadTransactionTemplate.execute(uploaded, () -> stagedUploadRepository.save(upload));
+
+        return new UploadResponse(upload.getToken(), upload.getImageUrl());
+    }
+
+    // 토큰을 사용 처리하고 이미지 URL/저장소 키/해시 반환 (호출한 쪽 트랜잭션에 참여, 토큰은 1회용)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public UploadResult consume(String token, String userId) {
+        StagedUpload upload = stagedUploadRepository.findById(token)
+                .orElseThrow(() -> new NotFoundException("upload not found"));
+
+        if (!upload.getOwnerUserId().equals(userId)) {
+            throw new ForbiddenException("권한이 없습니다.");
+        }
+
+        stagedUploadRepository.delete(upload);
+        return new UploadResult(upload.getImageUrl(), upload.getStorageKey(), upload.getContentHash());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<UploadResult> consumeAll(List<String> tokens, String userId) {
+        return tokens.stream()
+                .map(token -> consume(token, userId))
+                .toList();
+    }
+}
@@ -0,0 +1,82 @@
+package trip.diary.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.entity.ImageDeletion;
+import trip.diary.global.image.UploadResult;
+import trip.diary.repository.ImageDeletionRepository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 트랜잭션 밖에서 먼저 올린 이미지와 DB 트랜잭션을 묶어 실행
+ * 업로드 결과 하나가 stored_images 참조 하나(새로 등록했거나 기존 이미지를 acquire)를 들고 있으므로,
+ * 트랜잭션이 실패(롤백, 커밋 실패)하면 결과마다 참조를 바로 해제하고 마지막 참조였던 이미지만 삭제 대기열(image_deletions)에 등록한다.
+ * 보상은 실패한 트랜잭션과 별개의 새 트랜잭션에서 하고, 원래 예외를 다시 던진다.
+ */
+@Slf4j
+@Component
+public class UploadTransactionTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate compensationTemplate;
+    private final ImageDeletionRepository imageDeletionRepository;
+    private final StoredImageService storedImageService;
+
+    public UploadTransactionTemplate(PlatformTransactionManager transactionManager,
+                                     ImageDeletionRepository imageDeletionRepository,
+                                     StoredImageService storedImageService) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.compensationTemplate = new TransactionTemplate(transactionManager);
+        this.compensationTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.imageDeletionRepository = imageDeletionRepository;
+        this.storedImageService = storedImageService;
+    }
+
+    public <T> T execute(UploadResult upload, Supplier<T> work) {
+        return execute(upload == null ? List.of() : List.of(upload), work);
+    }
+
+    public <T> T execute(Collection<UploadResult> uploads, Supplier<T> work) {
+        try {
+            return transactionTemplate.execute(status -> work.get());
+        } catch (RuntimeException e) {
+            compensate(uploads, e);
+            throw e;
+        }
+    }
+
+    public void executeWithoutResult(Collection<UploadResult> uploads, Runnable work) {
+        execute(uploads, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    // 연결하지 못한 업로드의 참조 해제, 마지막 참조면 삭제 대기열로 (보상까지 실패하면 원래 예외에 붙이고 로그만 남김)
+    private void compensate(Collection<UploadResult> uploads, RuntimeException cause) {
+        List<UploadResult> orphans = uploads == null ? List.of() : uploads.stream()
+                .filter(Objects::nonNull)
+                .filter(upload -> upload.getStorageKey() != null)
+                .toList();
+        if (orphans.isEmpty()) return;
+
+        try {
+            compensationTemplate.executeWithoutResult(status -> orphans.forEach(upload -> {
+                if (storedImageService.release(upload.getStorageKey())) {
+                    imageDeletionRepository.save(ImageDeletion.create(upload.getStorageKey(), upload.getUrl()));
+                }
+            }));
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("업로드 이미지 참조 해제/삭제 대기열 등록 실패: {}",
+                    orphans.stream().map(UploadResult::getStorageKey).toList(), e);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package trip.diary.global.image;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.Uploader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ImageStorageServiceTest {
+
+    private static final long UPLOAD_LATENCY_MS = 200;
+    private static final int CONCURRENCY = 4;
+    private static final long MEMORY_BUDGET = 8 * 1024 * 1024;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final List<Long> uploadedSizes = new CopyOnWriteArrayList<>();
+
+    private ImageStorageService imageStorageService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // 로컬 stub 업로더: 지연 후 파일 내용으로 URL을 만들어 반환
+        Cloudinary cloudinary = mock(Cloudinary.class);
+        Uploader uploader = mock(Uploader.class);
+        when(cloudinary.uploader()).thenReturn(uploader);
+        when(uploader.upload(any(), anyMap())).thenAnswer(invocation -> {
+            int current = inFlight.incrementAndGet();
+            maxInFlight.accumulateAndGet(current, Math::max);
+            try {
+                Thread.sleep(UPLOAD_LATENCY_MS);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            // 업로드 대상은 byte[]가 아니라 디스크의 임시 파일이어야 함
+            File uploaded = invocation.getArgument(0);
+            uploadedSizes.add(uploaded.length());
+            String content = uploaded.length() > 1024
+                    ? "large"
+                    : Files.readString(uploaded.toPath(), StandardCharsets.UTF_8);
+            if (content.startsWith("fail")) {
+                throw new IllegalStateException("stub upload failure");
+            }
+            return Map.of("secure_url", "https://stub.local/" + content);
+        });
+
+        imageStorageService = new ImageStorageService(new CloudinaryImageStorage(cloudinary), mock(ImageVariantGenerator.class),
+                new InMemoryStoredImageRegistry(), CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        imageStorageService.shutdown();
+    }
+
+    @Test
+    void uploadAll_uploadsInParallelAndKeepsRequestOrder() {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            files.add(image("image-" + i));
+        }
+
+        long start = System.nanoTime();
+        List<String> urls = urls(imageStorageService.uploadAll(files));
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(urls).containsExactly(
+                "https://stub.local/image-0", "https://stub.local/image-1",
+                "https://stub.local/image-2", "https://stub.local/image-3",
+                "https://stub.local/image-4", "https://stub.local/image-5",
+                "https://stub.local/image-6", "https://stub.local/image-7");
+        // 8장 * 200ms 직렬(1600ms) 대신 동시 4개씩 2라운드
+        assertThat(elapsedMs).isLessThan(8 * UPLOAD_LATENCY_MS);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(CONCURRENCY);
+    }
+
+    @Test
+    void uploadAll_keepsEmptyFileSlotsAsNull() {
+        List<MultipartFile> files = List.of(
+                image("first"),
+                new MockMultipartFile("images", "empty.jpg", "image/jpeg", new byte[0]),
+                image("third"));
+
+        List<String> urls = urls(imageStorageService.uploadAll(files));
+
+        assertThat(urls).containsExactly("https://stub.local/first", null, "https://stub.local/third");
+    }
+
+    @Test
+    void uploadAll_propagatesUploadFailure() {
+        List<MultipartFile> files = List.of(image("ok"), image("fail"));
+
+        assertThatThrownBy(() -> imageStorageService.uploadAll(files))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("stub upload failure");
+    }
+
+    @Test
+    void upload_streamsLargeFileWithoutLoadingItIntoHeap(@TempDir Path tempDir) throws IOException {
+        // 메모리 상한(MEMORY_BUDGET)보다 큰 파일: getBytes()를 호출하면 실패하도록 구성
+        long size = MEMORY_BUDGET * 4;
+        Path source = tempDir.resolve("large.jpg");
+        try (RandomAccessFile raf = new RandomAccessFile(source.toFile(), "rw")) {
+            raf.setLength(size);
+        }
+
+        UploadResult result = imageStorageService.upload(new DiskBackedMultipartFile(source));
+
+        assertThat(result.getUrl()).isEqualTo("https://stub.local/large");
+        assertThat(uploadedSizes).containsExactly(size);
+    }
+
+    @Test
+    void upload_reusesStoredImageForSameContent() {
+        UploadResult first = imageStorageService.upload(image("same"));
+        UploadResult second = imageStorageService.upload(image("same"));
+
+        assertThat(second.getUrl()).isEqualTo(first.getUrl());
+        assertThat(second.getContentHash()).isEqualTo(first.getContentHash()).hasSize(64);
+        assertThat(uploadedSizes).hasSize(1);
+    }
+
+    @Test
+    void upload_usesKnownHashInsteadOfHashingAgain() {
+        String knownHash = imageStorageService.contentHash(image("hashed"));
+
+        UploadResult result = imageStorageService.upload(image("hashed"), knownHash);
+        UploadResult again = imageStorageService.upload(image("hashed"));
+
+        assertThat(result.getContentHash()).isEqualTo(knownHash);
+        assertThat(again.getUrl()).isEqualTo(result.getUrl());
+        assertThat(uploadedSizes).hasSize(1);
+    }
+
+    private static List<String> urls(List<UploadResult> results) {
+        return results.stream()
+                .map(result -> result == null ? null : result.getUrl())
+                .toList();
+    }
+
+    private static MockMultipartFile image(String content) {
+        return new MockMultipartFile("images", content + ".jpg", "image/jpeg",
+                content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // stored_images 대신 메모리에 해시 -> 업로드 결과 보관
+    private static class InMemoryStoredImageRegistry implements StoredImageRegistry {
+
+        private final Map<String, UploadResult> stored = new ConcurrentHashMap<>();
+
+        @Override
+        public Optional<UploadResult> acquire(String contentHash) {
+            return Optional.ofNullable(stored.get(contentHash));
+        }
+
+        @Override
+        public void register(UploadResult result) {
+            stored.putIfAbsent(result.getContentHash(), result);
+        }
+    }
+
+    /**
+     * 디스크에 저장된 multipart 파트 흉내 (스트림/transferTo만 허용)
+     */
+    private static class DiskBackedMultipartFile implements MultipartFile {
+
+        private final Path path;
+
+        DiskBackedMultipartFile(Path path) {
+            this.path = path;
+        }
+
+        @Override
+        public String getName() {
+            return "images";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return path.getFileName().toString();
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new AssertionError("업로드 파일 전체를 힙에 올리면 안 됩니다.");
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package trip.diary.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.entity.ImageDeletion;
+import trip.diary.global.image.ImageStorageService;
+import trip.diary.repository.ImageDeletionRepository;
+import trip.diary.repository.ImageVariantRepository;
+import trip.diary.repository.StagedUploadRepository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 삭제 대기열 처리 실패 시 재시도 예약(백오프)과 최대 시도 횟수 확인
+ */
+class ImageDeletionWorkerTest {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final String STORAGE_KEY = "trip/photo";
+
+    private ImageDeletionRepository imageDeletionRepository;
+    private StoredImageService storedImageService;
+    private ImageStorageService imageStorageService;
+    private ImageDeletionWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        imageDeletionRepository = mock(ImageDeletionRepository.class);
+        storedImageService = mock(StoredImageService.class);
+        imageStorageService = mock(ImageStorageService.class);
+        worker = new ImageDeletionWorker(imageDeletionRepository, mock(ImageVariantRepository.class),
+                mock(StagedUploadRepository.class), storedImageService, imageStorageService,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)),
+                100, 10, 60, 3600, MAX_ATTEMPTS, 24);
+        when(imageDeletionRepository.claim(any(), any(), any())).thenReturn(1);
+    }
+
+    @Test
+    void backoffDoublesPerAttemptUpToMax() {
+        assertThat(worker.backoff(1)).isEqualTo(Duration.ofSeconds(60));
+        assertThat(worker.backoff(2)).isEqualTo(Duration.ofSeconds(120));
+        assertThat(worker.backoff(3)).isEqualTo(Duration.ofSeconds(240));
+        assertThat(worker.backoff(7)).isEqualTo(Duration.ofSeconds(3600));
+        assertThat(worker.backoff(1000)).isEqualTo(Duration.ofSeconds(3600));
+    }
+
+    @Test
+    void storageFailureReschedulesWithBackoff() {
+        ImageDeletion deletion = deletion(11L, 2);
+        when(imageDeletionRepository.findDue(any(), eq(MAX_ATTEMPTS), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(storedImageService.release(STORAGE_KEY)).thenReturn(true);
+        doThrow(new IllegalStateException("storage down")).when(imageStorageService).delete(STORAGE_KEY);
+
+        LocalDateTime before = LocalDateTime.now();
+        worker.drain();
+        LocalDateTime after = LocalDateTime.now();
+
+        ArgumentCaptor<LocalDateTime> nextAttemptAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        ArgumentCaptor<String> lastError = ArgumentCaptor.forClass(String.class);
+        verify(imageDeletionRepository).markFailed(eq(11L), eq(3), nextAttemptAt.capture(), lastError.capture());
+
+        // 세 번째 시도 실패 → 60 * 2^2 초 뒤
+        assertThat(nextAttemptAt.getValue())
+                .isAfterOrEqualTo(before.plusSeconds(240))
+                .isBeforeOrEqualTo(after.plusSeconds(240));
+        assertThat(lastError.getValue()).contains("storage down");
+        verify(imageDeletionRepository, never()).deleteById(11L);
+    }
+
+    @Test
+    void lastAttemptIsRecordedAndExcludedFromDue() {
+        ImageDeletion deletion = deletion(12L, MAX_ATTEMPTS - 1);
+        when(imageDeletionRepository.findDue(any(), eq(MAX_ATTEMPTS), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(storedImageService.release(STORAGE_KEY)).thenReturn(true);
+        doThrow(new IllegalStateException("storage down")).when(imageStorageService).delete(STORAGE_KEY);
+
+        worker.drain();
+
+        // attempts가 최대치에 도달하면 findDue(attempts < maxAttempts)에서 더 이상 잡히지 않음
+        verify(imageDeletionRepository).markFailed(eq(12L), eq(MAX_ATTEMPTS), any(), anyString());
+    }
+
+    @Test
+    void successfulDeleteRemovesRow() {
+        ImageDeletion deletion = deletion(13L, 0);
+        when(imageDeletionRepository.findDue(any(), eq(MAX_ATTEMPTS), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(storedImageService.release(STORAGE_KEY)).thenReturn(true);
+
+        worker.drain();
+
+        verify(imageStorageService).delete(STORAGE_KEY);
+        verify(imageDeletionRepository).deleteById(13L);
+        verify(imageDeletionRepository, never()).markFailed(any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void rowClaimedElsewhereIsSkipped() {
+        ImageDeletion deletion = deletion(14L, 0);
+        when(imageDeletionRepository.findDue(any(), eq(MAX_ATTEMPTS), any(Pageable.class))).thenReturn(List.of(deletion));
+        when(imageDeletionRepository.claim(eq(14L), any(), any())).thenReturn(0);
+
+        worker.drain();
+
+        verify(storedImageService, never()).release(anyString());
+        verify(imageStorageService, never()).delete(anyString());
+        verify(imageDeletionRepository, never()).deleteById(14L);
+    }
+
+    private static ImageDeletion deletion(Long id, int attempts) {
+        ImageDeletion deletion = ImageDeletion.create(STORAGE_KEY, null);
+        ReflectionTestUtils.setField(deletion, "id", id);
+        ReflectionTestUtils.setField(deletion, "attempts", attempts);
+        return deletion;
+    }
+}
@@ -0,0 +1,87 @@
+package trip.diary.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import trip.diary.entity.Place;
+import trip.diary.entity.PlacePhoto;
+import trip.diary.entity.Trip;
+import trip.diary.entity.User;
+import trip.diary.repository.PlaceCoverJdbcRepository;
+import trip.diary.support.TripFixtures;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * places.cover_image_url 점검/보정이 여러 place_id 구간에 걸쳐 동작하는지 확인
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "place.cover.reconcile-batch-size=3"
+})
+@Import({PlaceCoverReconciler.class, PlaceCoverJdbcRepository.class})
+class PlaceCoverReconcilerTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlaceCoverReconciler placeCoverReconciler;
+
+    @Test
+    void checkReportsMismatchesAndFixBackfillsThem() {
+        List<Long> placeIds = seedPlaces(8);
+
+        // 컬럼 추가 직후(null) 2건, 값이 어긋난 1건
+        setCover(placeIds.get(0), null);
+        setCover(placeIds.get(4), null);
+        setCover(placeIds.get(7), "https://example.com/stale.jpg");
+
+        assertThat(placeCoverReconciler.reconcile(false)).isEqualTo(3);
+        assertThat(coverOf(placeIds.get(0))).isNull();
+
+        assertThat(placeCoverReconciler.reconcile(true)).isEqualTo(3);
+        assertThat(placeCoverReconciler.reconcile(false)).isZero();
+        assertThat(coverOf(placeIds.get(0))).isEqualTo("https://example.com/0/cover.jpg");
+        assertThat(coverOf(placeIds.get(7))).isEqualTo("https://example.com/7/cover.jpg");
+    }
+
+    // 장소마다 대표 사진 1장 + 일반 사진 1장
+    private List<Long> seedPlaces(int count) {
+        User user = TripFixtures.persistUser(em, "owner");
+        Trip trip = TripFixtures.persistTrip(em, user, LocalDate.of(2026, 1, 1), 2);
+
+        List<Long> placeIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String coverUrl = "https://example.com/" + i + "/cover.jpg";
+
+            Place place = Place.create(trip, "place " + i, null, "관광");
+            place.setCoverImageUrl(coverUrl);
+            em.persist(place);
+            em.persist(PlacePhoto.create(place, "https://example.com/" + i + "/other.jpg", false));
+            em.persist(PlacePhoto.create(place, coverUrl, true));
+            placeIds.add(place.getId());
+        }
+
+        em.flush();
+        return placeIds;
+    }
+
+    private void setCover(Long placeId, String coverImageUrl) {
+        em.createQuery("update Place p set p.coverImageUrl = :cover where p.id = :placeId")
+                .setParameter("cover", coverImageUrl)
+                .setParameter("placeId", placeId)
+                .executeUpdate();
+    }
+
+    private String coverOf(Long placeId) {
+        em.clear();
+        return em.find(Place.class, placeId).getCoverImageUrl();
+    }
+}
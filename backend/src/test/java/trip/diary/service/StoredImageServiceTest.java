@@ -0,0 +1,193 @@
+package trip.diary.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.entity.ImageDeletion;
+import trip.diary.global.image.ImageStorageService;
+import trip.diary.global.image.UploadResult;
+import trip.diary.repository.ImageDeletionRepository;
+import trip.diary.repository.StoredImageRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * stored_images 참조 수 확인: 재사용(acquire), 해제(release), 동시 등록에서 진 쪽(register),
+ * 삭제 대기열 행을 두 번 처리해도 참조 수가 한 번만 줄어드는지
+ * 등록/선점이 각자 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은 사용하지 않음 (테스트마다 다른 해시 사용)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({StoredImageService.class, ImageDeletionWorker.class, UploadTransactionTemplate.class})
+class StoredImageServiceTest {
+
+    @MockitoBean
+    private ImageStorageService imageStorageService;
+
+    @Autowired
+    private StoredImageService storedImageService;
+
+    @Autowired
+    private StoredImageRepository storedImageRepository;
+
+    @Autowired
+    private ImageDeletionRepository imageDeletionRepository;
+
+    @Autowired
+    private ImageDeletionWorker imageDeletionWorker;
+
+    @Autowired
+    private UploadTransactionTemplate uploadTransactionTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void acquireReturnsEmptyForUnknownHash() {
+        assertThat(storedImageService.acquire(hash("unknown"))).isEmpty();
+    }
+
+    @Test
+    void acquireReusesStoredImageAndCountsReference() {
+        storedImageService.register(upload("acquire", "images/acquire"));
+
+        Optional<UploadResult> acquired = storedImageService.acquire(hash("acquire"));
+
+        assertThat(acquired).hasValueSatisfying(result -> {
+            assertThat(result.getUrl()).isEqualTo(url("images/acquire"));
+            assertThat(result.getStorageKey()).isEqualTo("images/acquire");
+            assertThat(result.getContentHash()).isEqualTo(hash("acquire"));
+        });
+        assertThat(refCount("acquire")).isEqualTo(2);
+    }
+
+    @Test
+    void releaseDeletesRowOnlyAfterLastReference() {
+        storedImageService.register(upload("release", "images/release"));
+        storedImageService.acquire(hash("release"));
+
+        assertThat(release("images/release")).isFalse();
+        assertThat(refCount("release")).isEqualTo(1);
+
+        assertThat(release("images/release")).isTrue();
+        assertThat(storedImageRepository.existsById(hash("release"))).isFalse();
+
+        // 추적하지 않는 이미지(해시 없음, 동시 등록에서 진 사본)는 바로 삭제 대상
+        assertThat(release("images/untracked")).isTrue();
+    }
+
+    @Test
+    void raceLoserRegistrationKeepsFirstImageAndCallerTransaction() {
+        storedImageService.register(upload("race", "images/race-winner"));
+
+        // 진 쪽 등록이 PK 충돌로 실패해도 호출한 쪽 트랜잭션은 그대로 커밋 가능해야 함
+        transactionTemplate.executeWithoutResult(status -> {
+            storedImageService.register(upload("race", "images/race-loser"));
+            storedImageService.acquire(hash("race"));
+        });
+
+        assertThat(storedImageRepository.findById(hash("race")))
+                .hasValueSatisfying(image -> assertThat(image.getStorageKey()).isEqualTo("images/race-winner"));
+        assertThat(refCount("race")).isEqualTo(2);
+        assertThat(release("images/race-loser")).isTrue();
+    }
+
+    @Test
+    void processingSameDeletionTwiceReleasesOnce() {
+        storedImageService.register(upload("shared", "images/shared"));
+        storedImageService.acquire(hash("shared"));
+        storedImageService.acquire(hash("shared"));
+        ImageDeletion deletion = imageDeletionRepository.save(ImageDeletion.create("images/shared", url("images/shared")));
+
+        // 두 인스턴스가 같은 행을 읽은 상황
+        assertThat(imageDeletionWorker.process(deletion)).isTrue();
+        assertThat(imageDeletionWorker.process(deletion)).isTrue();
+
+        assertThat(refCount("shared")).isEqualTo(2);
+        assertThat(imageDeletionRepository.existsById(deletion.getId())).isFalse();
+        verify(imageStorageService, never()).delete("images/shared");
+    }
+
+    @Test
+    void processingLastReferenceTwiceDeletesStorageOnce() {
+        storedImageService.register(upload("last", "images/last"));
+        ImageDeletion deletion = imageDeletionRepository.save(ImageDeletion.create("images/last", url("images/last")));
+
+        imageDeletionWorker.process(deletion);
+        imageDeletionWorker.process(deletion);
+
+        verify(imageStorageService, times(1)).delete("images/last");
+        assertThat(storedImageRepository.existsById(hash("last"))).isFalse();
+        assertThat(imageDeletionRepository.existsById(deletion.getId())).isFalse();
+    }
+
+    @Test
+    void callerRollbackReturnsAcquiredReference() {
+        storedImageService.register(upload("rollback", "images/rollback"));
+        UploadResult acquired = storedImageService.acquire(hash("rollback")).orElseThrow();
+        assertThat(refCount("rollback")).isEqualTo(2);
+
+        assertThatThrownBy(() -> uploadTransactionTemplate.execute(acquired, () -> {
+            throw new IllegalStateException("caller failed");
+        })).hasMessage("caller failed");
+
+        // 다른 참조가 남아 있으므로 참조 수만 원래대로, 저장소 삭제 예약 없음
+        assertThat(refCount("rollback")).isEqualTo(1);
+        assertThat(deletionKeys()).doesNotContain("images/rollback");
+    }
+
+    @Test
+    void callerRollbackOfNewUploadEnqueuesDeletion() {
+        UploadResult registered = upload("orphan", "images/orphan");
+        storedImageService.register(registered);
+
+        assertThatThrownBy(() -> uploadTransactionTemplate.execute(registered, () -> {
+            throw new IllegalStateException("caller failed");
+        })).hasMessage("caller failed");
+
+        assertThat(storedImageRepository.existsById(hash("orphan"))).isFalse();
+        assertThat(deletionKeys()).contains("images/orphan");
+    }
+
+    private List<String> deletionKeys() {
+        return imageDeletionRepository.findAll().stream().map(ImageDeletion::getStorageKey).toList();
+    }
+
+    private boolean release(String storageKey) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status -> storedImageService.release(storageKey)));
+    }
+
+    private int refCount(String content) {
+        return jdbcTemplate.queryForObject(
+                "select ref_count from stored_images where content_hash = ?", Integer.class, hash(content));
+    }
+
+    private static UploadResult upload(String content, String storageKey) {
+        return new UploadResult(url(storageKey), storageKey, hash(content));
+    }
+
+    private static String url(String storageKey) {
+        return "https://example.com/" + storageKey + ".jpg";
+    }
+
+    // 테스트마다 고유한 64자 해시
+    private static String hash(String content) {
+        return String.format("%-64s", content).replace(' ', '0');
+    }
+}
@@ -0,0 +1,68 @@
+package trip.diary.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import trip.diary.dto.TimelineDto;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 타임라인 캐시 버전 기록이 무한히 늘지 않고, 비운 뒤에도 예전 ETag가 다시 나오지 않는지 확인
+ */
+class TimelineCacheTest {
+
+    private static final String USER_ID = "owner";
+
+    private final TimelineCache cache = new TimelineCache(new ObjectMapper(), mock(TripAuthorizationService.class), 10, 2);
+
+    @Test
+    void evictRemovesVersionOfDeletedTrip() {
+        cache.invalidate(1L);
+        cache.invalidate(2L);
+
+        cache.evict(1L);
+
+        assertThat(versions()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void versionsStayBoundedWithoutReusingEtags() {
+        Set<String> etags = new HashSet<>();
+        etags.add(etag(1L));
+        cache.invalidate(1L);
+        etags.add(etag(1L));
+
+        // 기록 상한(2)을 넘기면 전체를 비움
+        cache.invalidate(2L);
+        cache.invalidate(3L);
+        assertThat(versions()).hasSizeLessThanOrEqualTo(2);
+
+        // 기록이 지워진 여행도 지금까지 나간 ETag와 다른 값
+        assertThat(etags).doesNotContain(etag(1L));
+    }
+
+    @Test
+    void cachedSnapshotIsReusedUntilInvalidated() {
+        String first = etag(1L);
+        assertThat(etag(1L)).isEqualTo(first);
+
+        cache.invalidate(1L);
+        assertThat(etag(1L)).isNotEqualTo(first);
+    }
+
+    private String etag(Long tripId) {
+        return cache.getOrLoad(tripId, USER_ID, () -> new TimelineDto.TimelineListResponse(List.of())).etag();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> versions() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(cache, "versions");
+    }
+}
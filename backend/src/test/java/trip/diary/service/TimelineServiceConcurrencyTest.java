@@ -0,0 +1,281 @@
+package trip.diary.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.dto.TimelineDto;
+import trip.diary.dto.TimelineInterval;
+import trip.diary.entity.Place;
+import trip.diary.entity.Trip;
+import trip.diary.entity.TripDay;
+import trip.diary.entity.User;
+import trip.diary.repository.TimelineItemJdbcRepository;
+import trip.diary.repository.TimelineItemRepository;
+import trip.diary.repository.TripDayJdbcRepository;
+import trip.diary.repository.TripDayRepository;
+import trip.diary.support.TripFixtures;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 같은 날짜에 동시에 일정을 추가해도 겹치는 일정이 DB에 저장되지 않는지 확인
+ * 실제 TimelineService(날짜 락 + 겹침 검사 + items_version 조건부 증가)를 H2에 대해 실행한다.
+ * 한 JVM 안의 요청은 같은 스트라이프 락을 쓰므로, 다른 서버의 쓰기는 락 밖에서 직접 커밋해 흉내 낸다.
+ * 서비스가 직접 트랜잭션을 커밋해야 하므로 테스트 트랜잭션은 사용하지 않음 (테스트마다 다른 여행 사용)
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        TimelineService.class,
+        TripAuthorizationService.class,
+        TimelineWriteCoordinator.class,
+        TimelineItemJdbcRepository.class,
+        TripDayJdbcRepository.class,
+        TimelineServiceConcurrencyTest.HookConfig.class
+})
+class TimelineServiceConcurrencyTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 2, 13);
+
+    private static final int THREADS = 8;
+    private static final int REQUESTS_PER_THREAD = 40;
+
+    @MockitoBean
+    private TimelineCache timelineCache;
+
+    @Autowired
+    private TimelineService timelineService;
+
+    @Autowired
+    private HookedOverlapGuard overlapGuard;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void parallelInsertsIntoOneDayNeverPersistOverlaps() throws Exception {
+        Seed seed = seed("parallel-owner");
+
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                    LocalTime startTime = randomSlotStart();
+                    LocalTime endTime = startTime.plusMinutes(30L * ThreadLocalRandom.current().nextInt(1, 4));
+                    try {
+                        add(seed, startTime, endTime);
+                        accepted.incrementAndGet();
+                    } catch (IllegalArgumentException e) {
+                        // 겹침(time overlap exists)으로 거절
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - began);
+        executor.shutdown();
+
+        List<TimelineInterval> stored = storedIntervals(seed.dayId());
+        assertThat(accepted.get() + rejected.get()).isEqualTo(THREADS * REQUESTS_PER_THREAD);
+        assertThat(accepted.get()).isPositive();
+        assertThat(stored).hasSize(accepted.get());
+        assertNoOverlaps(stored);
+
+        // 같은 날짜 쓰기는 직렬화되지만 요청당 수 ms 수준이어야 함 (320건, CI 편차를 감안한 느슨한 상한)
+        assertThat(elapsed).isLessThan(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void otherNodeWriteBetweenCheckAndReserveIsRetried() {
+        Seed seed = seed("retry-owner");
+
+        // 검사 직전에 다른 서버가 겹치지 않는 일정을 커밋 -> 버전 충돌(409) 후 새 트랜잭션으로 재시도해 성공
+        AtomicInteger reserves = countReserves(() -> otherNodeInsert(seed, LocalTime.of(13, 0), LocalTime.of(14, 0)));
+
+        add(seed, LocalTime.of(10, 0), LocalTime.of(11, 0));
+
+        assertThat(reserves).hasValue(2);
+        List<TimelineInterval> stored = storedIntervals(seed.dayId());
+        assertThat(stored).hasSize(2);
+        assertNoOverlaps(stored);
+        assertThat(itemsVersion(seed.dayId())).isEqualTo(2);
+    }
+
+    @Test
+    void otherNodeOverlappingWriteIsRejectedAfterConflict() {
+        Seed seed = seed("overlap-owner");
+        // 이 서버의 겹침 인덱스를 채워 둠 (다음 검사는 DB를 다시 읽지 않고 캐시로 판단)
+        add(seed, LocalTime.of(8, 0), LocalTime.of(9, 0));
+
+        // 캐시 검사는 통과하지만 다른 서버가 이미 겹치는 일정을 커밋 -> 버전 선점 실패 -> 재시도에서 DB 기준으로 거절
+        AtomicInteger reserves = countReserves(() -> otherNodeInsert(seed, LocalTime.of(10, 30), LocalTime.of(11, 30)));
+
+        assertThatThrownBy(() -> add(seed, LocalTime.of(10, 0), LocalTime.of(11, 0)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("time overlap exists");
+
+        assertThat(reserves).hasValue(2);
+        List<TimelineInterval> stored = storedIntervals(seed.dayId());
+        assertThat(stored).extracting(TimelineInterval::startTime)
+                .containsExactlyInAnyOrder(LocalTime.of(8, 0), LocalTime.of(10, 30));
+        assertNoOverlaps(stored);
+    }
+
+    private Long add(Seed seed, LocalTime startTime, LocalTime endTime) {
+        return timelineService.addTimelineItem(seed.tripId(),
+                new TimelineDto.TimelineItemCreateRequest(DAY, startTime, endTime, seed.placeId()), seed.userId());
+    }
+
+    // 첫 reserve 직전에 otherNode를 한 번 실행하고, 이후 reserve 호출 수를 셈
+    private AtomicInteger countReserves(Runnable otherNode) {
+        AtomicInteger reserves = new AtomicInteger();
+        AtomicReference<Runnable> pending = new AtomicReference<>(otherNode);
+        overlapGuard.beforeReserve(() -> {
+            reserves.incrementAndGet();
+            Runnable once = pending.getAndSet(null);
+            if (once != null) once.run();
+        });
+        return reserves;
+    }
+
+    // 다른 서버: 스트라이프 락 없이 별도 트랜잭션으로 일정 추가 + items_version 증가 후 커밋
+    private void otherNodeInsert(Seed seed, LocalTime startTime, LocalTime endTime) {
+        TransactionTemplate otherNode = new TransactionTemplate(transactionManager);
+        otherNode.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        otherNode.executeWithoutResult(status -> {
+            jdbcTemplate.update("""
+                    insert into timeline_items (day_id, place_id, start_time, end_time, created_at, updated_at)
+                    values (?, ?, ?, ?, current_timestamp, current_timestamp)
+                    """, seed.dayId(), seed.placeId(), startTime, endTime);
+            jdbcTemplate.update("update trip_days set items_version = items_version + 1 where day_id = ?", seed.dayId());
+        });
+    }
+
+    private Seed seed(String userId) {
+        overlapGuard.beforeReserve(null);
+        return transactionTemplate.execute(status -> {
+            User user = TripFixtures.persistUser(em, userId);
+            Trip trip = TripFixtures.persistTrip(em, user, DAY, 1);
+            TripDay day = TripDay.create(trip, DAY, 1);
+            em.persist(day);
+            Place place = Place.create(trip, "place", null, "관광");
+            em.persist(place);
+            return new Seed(userId, trip.getId(), day.getId(), place.getId());
+        });
+    }
+
+    private List<TimelineInterval> storedIntervals(Long dayId) {
+        return jdbcTemplate.query(
+                "select item_id, start_time, end_time from timeline_items where day_id = ?",
+                (rs, rowNum) -> new TimelineInterval(
+                        rs.getLong("item_id"),
+                        rs.getObject("start_time", LocalTime.class),
+                        rs.getObject("end_time", LocalTime.class)),
+                dayId);
+    }
+
+    private long itemsVersion(Long dayId) {
+        return jdbcTemplate.queryForObject("select items_version from trip_days where day_id = ?", Long.class, dayId);
+    }
+
+    private static LocalTime randomSlotStart() {
+        // 30분 단위, 종료 시간이 23:30을 넘지 않도록 시작 슬롯 제한
+        return LocalTime.MIDNIGHT.plusMinutes(30L * ThreadLocalRandom.current().nextInt(0, 45));
+    }
+
+    private static void assertNoOverlaps(List<TimelineInterval> intervals) {
+        List<TimelineInterval> sorted = new ArrayList<>(intervals);
+        sorted.sort(Comparator.comparing(TimelineInterval::startTime));
+        for (int i = 1; i < sorted.size(); i++) {
+            assertThat(sorted.get(i - 1).endTime())
+                    .as("overlap between %s and %s", sorted.get(i - 1), sorted.get(i))
+                    .isBeforeOrEqualTo(sorted.get(i).startTime());
+        }
+    }
+
+    private record Seed(String userId, Long tripId, Long dayId, Long placeId) {
+    }
+
+    // 날짜를 읽은 뒤 버전 선점 전(reserve 진입 시점)에 끼어들 수 있는 겹침 검사기
+    // (트랜잭션 프록시로 감싸지므로 훅은 필드가 아니라 메서드로 설정)
+    static class HookedOverlapGuard extends TimelineOverlapGuard {
+
+        private final AtomicReference<Runnable> beforeReserve = new AtomicReference<>();
+
+        HookedOverlapGuard(TimelineItemRepository timelineItemRepository, TripDayRepository tripDayRepository, int maxDays) {
+            super(timelineItemRepository, tripDayRepository, maxDays);
+        }
+
+        public void beforeReserve(Runnable hook) {
+            beforeReserve.set(hook);
+        }
+
+        @Override
+        public long reserve(TripDay day, LocalTime start, LocalTime end, Long excludeItemId) {
+            Runnable hook = beforeReserve.get();
+            if (hook != null) hook.run();
+            return super.reserve(day, start, end, excludeItemId);
+        }
+    }
+
+    @TestConfiguration
+    static class HookConfig {
+
+        @Bean
+        HookedOverlapGuard timelineOverlapGuard(TimelineItemRepository timelineItemRepository,
+                                                TripDayRepository tripDayRepository,
+                                                @Value("${timeline.overlap-index.max-days:5000}") int maxDays) {
+            return new HookedOverlapGuard(timelineItemRepository, tripDayRepository, maxDays);
+        }
+    }
+}
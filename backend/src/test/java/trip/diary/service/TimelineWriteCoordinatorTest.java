@@ -0,0 +1,81 @@
+package trip.diary.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import trip.diary.global.exception.ConflictException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 버전 충돌 시 새 트랜잭션으로 재시도하는지 확인
+ * 실제 서비스/DB 동시성 검증은 TimelineServiceConcurrencyTest 참고
+ */
+class TimelineWriteCoordinatorTest {
+
+    private static final Long TRIP_ID = 1L;
+    private static final LocalDate DAY = LocalDate.of(2026, 2, 13);
+
+    private TimelineWriteCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        coordinator = new TimelineWriteCoordinator(new TransactionTemplate(new NoOpTransactionManager()), 64, 3);
+    }
+
+    @Test
+    void retriesInFreshTransactionOnVersionConflict() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Long result = coordinator.execute(TRIP_ID, List.of(DAY), () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ConflictException("conflict");
+            }
+            return 42L;
+        });
+
+        assertThat(result).isEqualTo(42L);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> coordinator.execute(TRIP_ID, List.of(DAY), () -> {
+            attempts.incrementAndGet();
+            throw new ConflictException("conflict");
+        })).isInstanceOf(ConflictException.class);
+
+        assertThat(attempts).hasValue(3);
+    }
+
+    // 트랜잭션 동기화만 지원하는 가짜 트랜잭션 매니저 (DB 없음)
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package trip.diary.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import trip.diary.entity.Place;
+import trip.diary.entity.PlacePhoto;
+import trip.diary.entity.TimelineItem;
+import trip.diary.entity.Trip;
+import trip.diary.entity.TripDay;
+import trip.diary.entity.User;
+import trip.diary.support.TripFixtures;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여행 삭제 쿼리 수가 하위 행 개수와 상관없이 일정한지 확인 (Hibernate 통계)
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(TripDeletionService.class)
+class TripDeletionServiceTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2026, 1, 1);
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private EntityManagerFactory emf;
+
+    @Autowired
+    private TripDeletionService tripDeletionService;
+
+    @Test
+    void deletesTripWithConstantNumberOfStatements() {
+        Long smallTripId = seedTrip("small", 10);
+        Long largeTripId = seedTrip("large", 1000);
+
+        long smallStatements = deleteAndCountStatements(smallTripId);
+        long largeStatements = deleteAndCountStatements(largeTripId);
+
+        // 삭제 대기열 등록 INSERT ... SELECT 2개 + DELETE 5개
+        assertThat(smallStatements).isEqualTo(7);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    void deletesEveryChildRowOfTheTrip() {
+        Long tripId = seedTrip("owner", 10);
+        Long otherTripId = seedTrip("other", 3);
+
+        tripDeletionService.deleteTrip(tripId);
+        em.clear();
+
+        assertThat(em.find(Trip.class, tripId)).isNull();
+        assertThat(count("select count(d) from TripDay d where d.trip.id = :tripId", tripId)).isZero();
+        assertThat(count("select count(p) from Place p where p.trip.id = :tripId", tripId)).isZero();
+        assertThat(count("select count(pp) from PlacePhoto pp where pp.place.trip.id = :tripId", tripId)).isZero();
+        assertThat(count("select count(i) from TimelineItem i where i.day.trip.id = :tripId", tripId)).isZero();
+
+        // 업로드 이미지(사진 10장 + 여행 이미지)는 삭제 대기열로
+        assertThat(em.createQuery("select d.storageKey from ImageDeletion d", String.class).getResultList())
+                .hasSize(11)
+                .allMatch(key -> key.startsWith("owner/"));
+
+        // 다른 여행은 그대로
+        assertThat(count("select count(d) from TripDay d where d.trip.id = :tripId", otherTripId)).isEqualTo(3);
+        assertThat(count("select count(i) from TimelineItem i where i.day.trip.id = :tripId", otherTripId)).isEqualTo(3);
+    }
+
+    private long deleteAndCountStatements(Long tripId) {
+        Statistics statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        tripDeletionService.deleteTrip(tripId);
+        em.flush();
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 날짜, 장소, 사진, 일정을 children개씩 가진 여행 생성
+    private Long seedTrip(String userId, int children) {
+        User user = TripFixtures.persistUser(em, userId);
+        Trip trip = TripFixtures.persistTrip(em, user, START_DATE, children);
+
+        for (int i = 0; i < children; i++) {
+            TripDay day = TripDay.create(trip, START_DATE.plusDays(i), i + 1);
+            em.persist(day);
+
+            Place place = Place.create(trip, "place " + i, null, "관광");
+            em.persist(place);
+            em.persist(PlacePhoto.create(place, "https://example.com/" + userId + "/" + i + ".jpg", userId + "/" + i, null, true));
+            em.persist(TimelineItem.create(day, LocalTime.of(9, 0), LocalTime.of(10, 0), place));
+        }
+
+        em.flush();
+        em.clear();
+        return trip.getId();
+    }
+
+    private long count(String jpql, Long tripId) {
+        return em.createQuery(jpql, Long.class)
+                .setParameter("tripId", tripId)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,237 @@
+package trip.diary.service;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.multipart.MultipartFile;
+import trip.diary.dto.PlaceDetailResponse;
+import trip.diary.dto.PlacePhotoPatchRequest;
+import trip.diary.dto.PlacePhotoResponse;
+import trip.diary.entity.Place;
+import trip.diary.entity.PlacePhoto;
+import trip.diary.entity.Trip;
+import trip.diary.entity.User;
+import trip.diary.global.image.ImageStorageService;
+import trip.diary.global.image.UploadResult;
+import trip.diary.support.TripFixtures;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 장소 사진 부분 수정(PATCH) 확인: 기존 사진 id 유지, 중복 파일 업로드 생략, 대표만 바꿀 때 쿼리 수, 전부 삭제 시 기본 사진
+ * 저장소 업로드는 목으로 대체하고 DB는 H2 사용
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "trip.diary.service.TripPlacePhotoUpdateTest$SqlRecorder"
+})
+@Import({TripPlaceService.class, TripAuthorizationService.class, UploadTransactionTemplate.class, StoredImageService.class})
+class TripPlacePhotoUpdateTest {
+
+    private static final String USER_ID = "photo-owner";
+    private static final String SIGHTSEEING_DEFAULT_URL =
+            "https://res.cloudinary.com/dxlycqpyp/image/upload/v1771146720/KakaoTalk_20260215_125850088_01_uwezty.png";
+
+    @MockitoBean
+    private ImageStorageService imageStorageService;
+
+    @MockitoBean
+    private UploadService uploadService;
+
+    @MockitoBean
+    private TimelineCache timelineCache;
+
+    @Autowired
+    private TripPlaceService tripPlaceService;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long tripId;
+    private Long placeId;
+    private Long firstPhotoId;
+    private Long secondPhotoId;
+
+    @BeforeEach
+    void setUp() {
+        User user = TripFixtures.persistUser(em, USER_ID);
+        Trip trip = TripFixtures.persistTrip(em, user, LocalDate.of(2026, 3, 1), 1);
+        Place place = Place.create(trip, "place", null, "관광");
+        place.setCoverImageUrl(url("first"));
+        em.persist(place);
+
+        PlacePhoto first = PlacePhoto.create(place, url("first"), "photos/first", sha256("first"), true);
+        PlacePhoto second = PlacePhoto.create(place, url("second"), "photos/second", sha256("second"), false);
+        em.persist(first);
+        em.persist(second);
+        em.flush();
+        em.clear();
+
+        tripId = trip.getId();
+        placeId = place.getId();
+        firstPhotoId = first.getId();
+        secondPhotoId = second.getId();
+
+        // 해시는 실제 SHA-256, 업로드는 파일 이름으로 URL/키를 만들어 반환
+        when(imageStorageService.contentHash(any())).thenAnswer(invocation ->
+                sha256(new String(invocation.<MultipartFile>getArgument(0).getBytes(), StandardCharsets.UTF_8)));
+        when(imageStorageService.uploadAll(anyList(), anyList())).thenAnswer(invocation -> {
+            List<MultipartFile> files = invocation.getArgument(0);
+            List<String> hashes = invocation.getArgument(1);
+            List<UploadResult> results = new ArrayList<>();
+            for (int i = 0; i < files.size(); i++) {
+                MultipartFile file = files.get(i);
+                if (file == null) {
+                    results.add(null);
+                    continue;
+                }
+                String name = file.getOriginalFilename();
+                results.add(new UploadResult(url(name), "photos/" + name, hashes.get(i)));
+            }
+            return results;
+        });
+
+        SqlRecorder.STATEMENTS.clear();
+    }
+
+    @Test
+    void addingOnePhotoKeepsExistingIds() {
+        PlaceDetailResponse response = tripPlaceService.updatePhotos(tripId, placeId,
+                new PlacePhotoPatchRequest(null, null, null, null), List.of(image("third")), USER_ID);
+
+        assertThat(response.photos()).extracting(PlacePhotoResponse::photoId)
+                .hasSize(3)
+                .contains(firstPhotoId, secondPhotoId);
+        assertThat(response.photos()).filteredOn(PlacePhotoResponse::isCover)
+                .extracting(PlacePhotoResponse::photoId)
+                .containsExactly(firstPhotoId);
+        assertThat(response.photos()).extracting(PlacePhotoResponse::imageUrl).contains(url("third"));
+    }
+
+    @Test
+    void duplicateFileIsNotUploaded() {
+        PlaceDetailResponse response = tripPlaceService.updatePhotos(tripId, placeId,
+                new PlacePhotoPatchRequest(null, null, null, null),
+                List.of(image("second"), image("third")), USER_ID);
+
+        // 파일마다 해시는 한 번만 계산하고, 같은 해시로 업로드에 넘김
+        verify(imageStorageService, times(2)).contentHash(any());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<MultipartFile>> files = ArgumentCaptor.forClass(List.class);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<String>> hashes = ArgumentCaptor.forClass(List.class);
+        verify(imageStorageService).uploadAll(files.capture(), hashes.capture());
+
+        assertThat(files.getValue()).hasSize(2);
+        assertThat(files.getValue().get(0)).isNull();
+        assertThat(files.getValue().get(1).getOriginalFilename()).isEqualTo("third");
+        assertThat(hashes.getValue()).containsExactly(sha256("second"), sha256("third"));
+
+        assertThat(response.photos()).hasSize(3);
+        assertThat(response.photos()).extracting(PlacePhotoResponse::imageUrl)
+                .containsOnlyOnce(url("second"));
+    }
+
+    @Test
+    void coverOnlyChangeIssuesSingleUpdate() {
+        LocalDateTime past = LocalDateTime.of(2000, 1, 1, 0, 0);
+        em.createQuery("update PlacePhoto pp set pp.updatedAt = :past where pp.place.id = :placeId")
+                .setParameter("past", past)
+                .setParameter("placeId", placeId)
+                .executeUpdate();
+        SqlRecorder.STATEMENTS.clear();
+
+        tripPlaceService.updatePhotos(tripId, placeId,
+                new PlacePhotoPatchRequest(null, secondPhotoId, null, null), null, USER_ID);
+        em.flush();
+
+        // 대표 플래그 이동 UPDATE 한 번 + places.cover_image_url
+        assertThat(statementsStartingWith("update place_photos")).hasSize(1);
+        assertThat(statementsStartingWith("update places")).hasSize(1);
+        assertThat(statementsStartingWith("insert")).isEmpty();
+        assertThat(statementsStartingWith("delete")).isEmpty();
+
+        em.clear();
+        assertThat(em.find(Place.class, placeId).getCoverImageUrl()).isEqualTo(url("second"));
+        assertThat(em.find(PlacePhoto.class, firstPhotoId).getIsCover()).isFalse();
+        assertThat(em.find(PlacePhoto.class, secondPhotoId).getIsCover()).isTrue();
+        // 벌크 UPDATE에서도 바뀐 두 행의 updatedAt 갱신
+        assertThat(em.find(PlacePhoto.class, firstPhotoId).getUpdatedAt()).isAfter(past);
+        assertThat(em.find(PlacePhoto.class, secondPhotoId).getUpdatedAt()).isAfter(past);
+    }
+
+    @Test
+    void removingAllPhotosRestoresDefault() {
+        PlaceDetailResponse response = tripPlaceService.updatePhotos(tripId, placeId,
+                new PlacePhotoPatchRequest(List.of(firstPhotoId, secondPhotoId), null, null, null), null, USER_ID);
+
+        assertThat(response.photos()).singleElement()
+                .satisfies(photo -> {
+                    assertThat(photo.imageUrl()).isEqualTo(SIGHTSEEING_DEFAULT_URL);
+                    assertThat(photo.isCover()).isTrue();
+                });
+        assertThat(response.coverImageUrl()).isEqualTo(SIGHTSEEING_DEFAULT_URL);
+
+        // 지운 업로드 사진은 삭제 대기열로
+        assertThat(em.createQuery("select d.storageKey from ImageDeletion d", String.class).getResultList())
+                .containsExactlyInAnyOrder("photos/first", "photos/second");
+    }
+
+    private static List<String> statementsStartingWith(String prefix) {
+        return SqlRecorder.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith(prefix))
+                .toList();
+    }
+
+    private static MockMultipartFile image(String content) {
+        return new MockMultipartFile("images", content, "image/jpeg", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String url(String name) {
+        return "https://example.com/" + name + ".jpg";
+    }
+
+    private static String sha256(String content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 실행된 SQL 기록 (Hibernate statement_inspector)
+    public static class SqlRecorder implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
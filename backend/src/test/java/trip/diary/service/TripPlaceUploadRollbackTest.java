@@ -0,0 +1,107 @@
+package trip.diary.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import trip.diary.dto.PlaceRequest;
+import trip.diary.entity.Place;
+import trip.diary.entity.PlacePhoto;
+import trip.diary.entity.Trip;
+import trip.diary.entity.User;
+import trip.diary.global.image.ImageStorageService;
+import trip.diary.global.image.UploadResult;
+import trip.diary.support.TripFixtures;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+/**
+ * 트랜잭션 전에 올린 이미지가 트랜잭션 실패 시 삭제 대기열(image_deletions)로 가는지 확인
+ * 롤백과 보상 등록이 실제로 커밋/롤백되어야 하므로 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TripPlaceService.class, TripAuthorizationService.class, UploadTransactionTemplate.class, StoredImageService.class})
+class TripPlaceUploadRollbackTest {
+
+    private static final String USER_ID = "rollback-owner";
+
+    @MockitoBean
+    private ImageStorageService imageStorageService;
+
+    @MockitoBean
+    private UploadService uploadService;
+
+    @MockitoBean
+    private TimelineCache timelineCache;
+
+    @Autowired
+    private TripPlaceService tripPlaceService;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void failedTransactionEnqueuesUploadedImages() {
+        long[] ids = transactionTemplate.execute(status -> {
+            User user = TripFixtures.persistUser(em, USER_ID);
+            Trip trip = TripFixtures.persistTrip(em, user, LocalDate.of(2026, 4, 1), 1);
+            Place place = Place.create(trip, "before", null, "관광");
+            em.persist(place);
+            em.persist(PlacePhoto.create(place, "https://example.com/old.jpg", "photos/old", null, true));
+            return new long[]{trip.getId(), place.getId()};
+        });
+        Long tripId = ids[0];
+        Long placeId = ids[1];
+
+        when(imageStorageService.uploadAll(anyList())).thenReturn(Arrays.asList(
+                new UploadResult("https://example.com/a.jpg", "photos/a", "hash-a"),
+                null,
+                new UploadResult("https://example.com/b.jpg", "photos/b", "hash-b")));
+        // 이름 변경 시 캐시 무효화에서 실패시켜 트랜잭션 롤백 유도
+        doThrow(new IllegalStateException("forced failure")).when(timelineCache).invalidate(anyLong());
+
+        List<MultipartFile> images = List.of(image("a"), image("empty"), image("b"));
+        assertThatThrownBy(() -> tripPlaceService.updatePlace(tripId, placeId,
+                new PlaceRequest("after", null, null, null, null), images, USER_ID))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("forced failure");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            // 장소 변경은 롤백, 기존 사진은 그대로
+            assertThat(em.find(Place.class, placeId).getName()).isEqualTo("before");
+            assertThat(em.createQuery("select pp.storageKey from PlacePhoto pp where pp.place.id = :placeId", String.class)
+                    .setParameter("placeId", placeId)
+                    .getResultList())
+                    .containsExactly("photos/old");
+
+            // 새로 올린 이미지만 삭제 대기열에
+            assertThat(em.createQuery("select d.storageKey from ImageDeletion d", String.class).getResultList())
+                    .containsExactlyInAnyOrder("photos/a", "photos/b");
+        });
+    }
+
+    private static MockMultipartFile image(String content) {
+        return new MockMultipartFile("images", content + ".jpg", "image/jpeg", content.getBytes(StandardCharsets.UTF_8));
+    }
+}
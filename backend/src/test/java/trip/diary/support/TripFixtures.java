@@ -0,0 +1,39 @@
+package trip.diary.support;
+
+import jakarta.persistence.EntityManager;
+import trip.diary.entity.Trip;
+import trip.diary.entity.User;
+
+import java.time.LocalDate;
+
+/**
+ * JPA 테스트 공통 데이터: 사용자 + 여행
+ */
+public final class TripFixtures {
+
+    private TripFixtures() {
+    }
+
+    public static User persistUser(EntityManager em, String userId) {
+        User user = User.builder().userId(userId).password("password").build();
+        em.persist(user);
+        return user;
+    }
+
+    // startDate부터 days일짜리 여행 (업로드 이미지 키: "{userId}/trip")
+    public static Trip persistTrip(EntityManager em, User user, LocalDate startDate, int days) {
+        Trip trip = Trip.builder()
+                .user(user)
+                .title(user.getUserId() + " trip")
+                .destination("서울")
+                .isDomestic(true)
+                .startDate(startDate)
+                .endDate(startDate.plusDays(days - 1))
+                .status(2)
+                .imageUrl("https://example.com/trip.jpg")
+                .imageStorageKey(user.getUserId() + "/trip")
+                .build();
+        em.persist(trip);
+        return trip;
+    }
+}